@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+/**
+ * An evaluator for the frequency response of rational analog (s-domain)
+ * transfer functions across a whole grid of frequencies, given either as
+ * numerator and denominator polynomial coefficients or as zeros, poles and
+ * gain.
+ * <p>
+ * The angular frequency of each bin (the omega term of "s" = j*omega, as per
+ * {@link FrequencySignalUtilities#convertFrequencyToSDomain}) is computed once,
+ * at construction time, and each evaluation writes into caller-owned arrays,
+ * so that no objects are created per bin or per evaluation. This suits the
+ * evaluation of many candidate filters across the same grid, even from
+ * several threads at once, as the angular frequencies are only ever read.
+ */
+public final class AnalogTransferFunctionEvaluator {
+
+    // The number of bins in the frequency grid.
+    private final int numberOfBins;
+
+    // The angular frequency (in radians per second) of each bin.
+    private final double[] angularFrequencies;
+
+    /**
+     * Constructs an evaluator for all of the supplied frequencies.
+     *
+     * @param frequenciesHz The frequency (in Hertz) of each bin
+     */
+    public AnalogTransferFunctionEvaluator( final double[] frequenciesHz ) {
+        this( frequenciesHz, frequenciesHz.length );
+    }
+
+    /**
+     * Constructs an evaluator for the bins of the supplied frequency grid.
+     *
+     * @param frequencyGrid The frequency grid to evaluate across
+     */
+    public AnalogTransferFunctionEvaluator( final FrequencyGrid frequencyGrid ) {
+        this( frequencyGrid.frequencyBins, frequencyGrid.getNumberOfBins() );
+    }
+
+    /**
+     * Constructs an evaluator for the leading frequencies of the supplied
+     * array.
+     *
+     * @param frequenciesHz The frequency (in Hertz) of each bin
+     * @param pNumberOfBins The number of bins to evaluate
+     */
+    public AnalogTransferFunctionEvaluator( final double[] frequenciesHz,
+                                            final int pNumberOfBins ) {
+        numberOfBins = pNumberOfBins;
+        angularFrequencies = new double[ pNumberOfBins ];
+        for ( int binIndex = 0; binIndex < pNumberOfBins; binIndex++ ) {
+            angularFrequencies[ binIndex ]
+                    = FrequencySignalUtilities.getAngularFrequencyRadians(
+                    frequenciesHz[ binIndex ] );
+        }
+    }
+
+    /**
+     * Returns the number of bins that this evaluator evaluates across.
+     *
+     * @return The number of bins that this evaluator evaluates across
+     */
+    public int getNumberOfBins() {
+        return numberOfBins;
+    }
+
+    /**
+     * Evaluates a transfer function given as numerator and denominator
+     * polynomials in "s", writing the complex response of each bin.
+     * <p>
+     * The coefficients are in descending powers of "s", so that for instance
+     * {1, 0, w0^2} is s^2 + w0^2. Each polynomial is evaluated by Horner's
+     * method, and the quotient is formed by Smith's algorithm, to avoid
+     * premature overflow for high order polynomials at high frequencies.
+     *
+     * @param numerator The numerator coefficients, in descending powers
+     * @param denominator The denominator coefficients, in descending powers
+     * @param response The caller-owned complex response, with at least as
+     *                 many bins as this evaluator
+     */
+    public void evaluatePolynomial( final double[] numerator,
+                                    final double[] denominator,
+                                    final ComplexSpectrum response ) {
+        computePolynomialResponse( numerator,
+                                   denominator,
+                                   response.getReal(),
+                                   response.getImaginary() );
+    }
+
+    // Evaluate a transfer function given as polynomials, writing the real and
+    // imaginary parts of the response of each bin.
+    private void computePolynomialResponse( final double[] numerator,
+                                            final double[] denominator,
+                                            final double[] responseReal,
+                                            final double[] responseImaginary ) {
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double omega = angularFrequencies[ binIndex ];
+
+            // Multiplying by "s" = j*omega rotates and scales each partial sum.
+            double numeratorReal = 0.0d;
+            double numeratorImaginary = 0.0d;
+            for ( final double coefficient : numerator ) {
+                final double partialReal = numeratorReal;
+                numeratorReal = coefficient - ( numeratorImaginary * omega );
+                numeratorImaginary = partialReal * omega;
+            }
+
+            double denominatorReal = 0.0d;
+            double denominatorImaginary = 0.0d;
+            for ( final double coefficient : denominator ) {
+                final double partialReal = denominatorReal;
+                denominatorReal = coefficient
+                                  - ( denominatorImaginary * omega );
+                denominatorImaginary = partialReal * omega;
+            }
+
+            ComplexSpectrum.divide( numeratorReal,
+                                    numeratorImaginary,
+                                    denominatorReal,
+                                    denominatorImaginary,
+                                    responseReal,
+                                    responseImaginary,
+                                    binIndex );
+        }
+    }
+
+    /**
+     * Evaluates a transfer function given as numerator and denominator
+     * polynomials in "s", writing the magnitude (in decibels) and phase (in
+     * degrees) of each bin.
+     *
+     * @param numerator The numerator coefficients, in descending powers
+     * @param denominator The denominator coefficients, in descending powers
+     * @param magnitudesDb The caller-owned magnitude response, in decibels
+     * @param phasesDegrees The caller-owned phase response, in degrees from
+     *                      -180 to +180
+     */
+    public void evaluatePolynomial( final double[] numerator,
+                                    final double[] denominator,
+                                    final double[] magnitudesDb,
+                                    final double[] phasesDegrees ) {
+        // NOTE: The complex response is staged in the output arrays, and then
+        //  converted in place, so that no workspace is needed.
+        computePolynomialResponse( numerator,
+                                   denominator,
+                                   magnitudesDb,
+                                   phasesDegrees );
+        ComplexSpectrum.convertToMagnitudeAndPhase( magnitudesDb,
+                                                    phasesDegrees,
+                                                    numberOfBins );
+    }
+
+    /**
+     * Evaluates a transfer function given as zeros, poles and gain, writing
+     * the complex response of each bin.
+     * <p>
+     * The response is the gain times the product of (s - zero) over all zeros,
+     * divided by the product of (s - pole) over all poles. Complex zeros and
+     * poles are given as separate arrays of real and imaginary parts, and
+     * should come in conjugate pairs for a real filter.
+     *
+     * @param zerosReal The real part of each zero
+     * @param zerosImaginary The imaginary part of each zero
+     * @param polesReal The real part of each pole
+     * @param polesImaginary The imaginary part of each pole
+     * @param gain The overall gain
+     * @param response The caller-owned complex response, with at least as
+     *                 many bins as this evaluator
+     */
+    public void evaluateZeroPoleGain( final double[] zerosReal,
+                                      final double[] zerosImaginary,
+                                      final double[] polesReal,
+                                      final double[] polesImaginary,
+                                      final double gain,
+                                      final ComplexSpectrum response ) {
+        computeZeroPoleGainResponse( zerosReal,
+                                     zerosImaginary,
+                                     polesReal,
+                                     polesImaginary,
+                                     gain,
+                                     response.getReal(),
+                                     response.getImaginary() );
+    }
+
+    // Evaluate a transfer function given as zeros, poles and gain, writing the
+    // real and imaginary parts of the response of each bin.
+    private void computeZeroPoleGainResponse( final double[] zerosReal,
+                                              final double[] zerosImaginary,
+                                              final double[] polesReal,
+                                              final double[] polesImaginary,
+                                              final double gain,
+                                              final double[] responseReal,
+                                              final double[] responseImaginary ) {
+        final int numberOfZeros = zerosReal.length;
+        final int numberOfPoles = polesReal.length;
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double omega = angularFrequencies[ binIndex ];
+
+            double numeratorReal = gain;
+            double numeratorImaginary = 0.0d;
+            for ( int zeroIndex = 0; zeroIndex < numberOfZeros; zeroIndex++ ) {
+                final double factorReal = -zerosReal[ zeroIndex ];
+                final double factorImaginary = omega
+                                               - zerosImaginary[ zeroIndex ];
+                final double partialReal = numeratorReal;
+                numeratorReal = ( partialReal * factorReal )
+                                - ( numeratorImaginary * factorImaginary );
+                numeratorImaginary = ( partialReal * factorImaginary )
+                                     + ( numeratorImaginary * factorReal );
+            }
+
+            double denominatorReal = 1.0d;
+            double denominatorImaginary = 0.0d;
+            for ( int poleIndex = 0; poleIndex < numberOfPoles; poleIndex++ ) {
+                final double factorReal = -polesReal[ poleIndex ];
+                final double factorImaginary = omega
+                                               - polesImaginary[ poleIndex ];
+                final double partialReal = denominatorReal;
+                denominatorReal = ( partialReal * factorReal )
+                                  - ( denominatorImaginary * factorImaginary );
+                denominatorImaginary = ( partialReal * factorImaginary )
+                                       + ( denominatorImaginary * factorReal );
+            }
+
+            ComplexSpectrum.divide( numeratorReal,
+                                    numeratorImaginary,
+                                    denominatorReal,
+                                    denominatorImaginary,
+                                    responseReal,
+                                    responseImaginary,
+                                    binIndex );
+        }
+    }
+
+    /**
+     * Evaluates a transfer function given as zeros, poles and gain, writing
+     * the magnitude (in decibels) and phase (in degrees) of each bin.
+     *
+     * @param zerosReal The real part of each zero
+     * @param zerosImaginary The imaginary part of each zero
+     * @param polesReal The real part of each pole
+     * @param polesImaginary The imaginary part of each pole
+     * @param gain The overall gain
+     * @param magnitudesDb The caller-owned magnitude response, in decibels
+     * @param phasesDegrees The caller-owned phase response, in degrees from
+     *                      -180 to +180
+     */
+    public void evaluateZeroPoleGain( final double[] zerosReal,
+                                      final double[] zerosImaginary,
+                                      final double[] polesReal,
+                                      final double[] polesImaginary,
+                                      final double gain,
+                                      final double[] magnitudesDb,
+                                      final double[] phasesDegrees ) {
+        // NOTE: The complex response is staged in the output arrays, and then
+        //  converted in place, so that no workspace is needed.
+        computeZeroPoleGainResponse( zerosReal,
+                                     zerosImaginary,
+                                     polesReal,
+                                     polesImaginary,
+                                     gain,
+                                     magnitudesDb,
+                                     phasesDegrees );
+        ComplexSpectrum.convertToMagnitudeAndPhase( magnitudesDb,
+                                                    phasesDegrees,
+                                                    numberOfBins );
+    }
+}
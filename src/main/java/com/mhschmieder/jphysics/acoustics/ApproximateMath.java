@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import com.mhschmieder.jmath.MathConstants;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Table-driven approximations of the base two logarithm and exponential,
+ * working directly on the IEEE 754 representation of a double, for use where
+ * display accuracy is all that is needed and the exact functions dominate the
+ * cost of converting large amounts of data to and from decibels.
+ * <p>
+ * The exponent is taken straight from the bits, and the mantissa's fraction is
+ * found by linear interpolation between the nearest two of 256 tabulated
+ * values per octave, so that the absolute error of the logarithm is below
+ * 3.0E-6 and the relative error of the exponential is below 1.0E-6.
+ * Zero, negative, subnormal, infinite and NaN arguments to the logarithm, and
+ * arguments to the exponential whose results would not be normal, fall back
+ * to the exact functions, so that they give the same special values.
+ */
+final class ApproximateMath {
+
+    // The number of table intervals per octave, as a power of two so that the
+    // table index is taken directly from the leading bits of the mantissa.
+    private static final int TABLE_INDEX_BITS = 8;
+    private static final int TABLE_SIZE = 1 << TABLE_INDEX_BITS;
+
+    // The number of mantissa bits below the table index, which give the
+    // fraction of the way through the table interval.
+    private static final int FRACTION_BITS = 52 - TABLE_INDEX_BITS;
+    private static final long FRACTION_MASK = ( 1L << FRACTION_BITS ) - 1L;
+    private static final double FRACTION_SCALE = 1.0d
+                                                 / ( 1L << FRACTION_BITS );
+
+    // The offset of the biased exponent of a double.
+    private static final int EXPONENT_BIAS = 1023;
+
+    // The biased exponent of infinities and NaN's.
+    private static final int EXPONENT_SPECIAL = 0x7FF;
+
+    // The base two logarithm of each tabulated mantissa, from one to two.
+    private static final double[] LOG2_TABLE = new double[ TABLE_SIZE + 1 ];
+
+    // Two to the power of each tabulated fraction, from zero to one.
+    // NOTE: This has an extra entry past two, as the fraction of an argument
+    //  just below an integer can round up to one.
+    private static final double[] EXP2_TABLE = new double[ TABLE_SIZE + 2 ];
+
+    static {
+        for ( int index = 0; index < LOG2_TABLE.length; index++ ) {
+            LOG2_TABLE[ index ] = FastMath.log( 1.0d + ( ( double ) index
+                    / TABLE_SIZE ) ) / MathConstants.LN2;
+        }
+        for ( int index = 0; index < EXP2_TABLE.length; index++ ) {
+            EXP2_TABLE[ index ] = FastMath.pow( 2.0d,
+                                                ( double ) index / TABLE_SIZE );
+        }
+    }
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class
+     */
+    private ApproximateMath() {
+    }
+
+    // Approximate the base two logarithm, to within an absolute error of
+    // 3.0E-6, for positive normal arguments.
+    static double log2( final double x ) {
+        final long bits = Double.doubleToRawLongBits( x );
+
+        // NOTE: The sign bit is included, so that negative arguments fall
+        //  back along with zero, subnormals, infinities and NaN's.
+        final int biasedExponent = ( int ) ( bits >>> 52 );
+        if ( ( biasedExponent == 0 )
+                || ( biasedExponent >= EXPONENT_SPECIAL ) ) {
+            return FastMath.log( x ) / MathConstants.LN2;
+        }
+
+        final int index = ( int ) ( bits >>> FRACTION_BITS )
+                          & ( TABLE_SIZE - 1 );
+        final double fraction = ( bits & FRACTION_MASK ) * FRACTION_SCALE;
+
+        final double lowerLog2 = LOG2_TABLE[ index ];
+        return ( biasedExponent - EXPONENT_BIAS ) + lowerLog2
+               + ( ( LOG2_TABLE[ index + 1 ] - lowerLog2 ) * fraction );
+    }
+
+    // Approximate two to the given power, to within a relative error of
+    // 1.0E-6, wherever the result is a normal double.
+    static double exp2( final double x ) {
+        // NOTE: The test is written so that NaN's also fall back.
+        if ( !( ( x > 1.0d - EXPONENT_BIAS ) && ( x < EXPONENT_BIAS + 1 ) ) ) {
+            return FastMath.pow( 2.0d, x );
+        }
+
+        int exponent = ( int ) x;
+        if ( x < exponent ) {
+            exponent--;
+        }
+
+        final double scaledFraction = ( x - exponent ) * TABLE_SIZE;
+        final int index = ( int ) scaledFraction;
+        final double fraction = scaledFraction - index;
+
+        final double lowerExp2 = EXP2_TABLE[ index ];
+        final double mantissa = lowerExp2
+                + ( ( EXP2_TABLE[ index + 1 ] - lowerExp2 ) * fraction );
+        return mantissa * Double.longBitsToDouble(
+                ( long ) ( exponent + EXPONENT_BIAS ) << 52 );
+    }
+}
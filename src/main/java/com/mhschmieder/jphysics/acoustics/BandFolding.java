@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import com.mhschmieder.jcommons.lang.EnumUtilities;
+import com.mhschmieder.jcommons.lang.Labeled;
+
+/**
+ * Band Folding refers to how the narrowband powers that fall within each
+ * fractional octave band are combined into the level of that band.
+ * <p>
+ * Power Sum gives the total power in the band, as for a true fractional octave
+ * analysis of a noise-like signal, whereas Mean gives the average power per
+ * bin in the band, which is independent of the bin density and so suits the
+ * comparison of spectra measured at different resolutions.
+ */
+public enum BandFolding implements Labeled< BandFolding > {
+    POWER_SUM( "Power Sum" ),
+    MEAN( "Mean" );
+
+    private final String label;
+
+    BandFolding( final String pLabel ) {
+        label = pLabel;
+    }
+
+    public static BandFolding defaultValue() {
+        return POWER_SUM;
+    }
+
+    @Override
+    public String toString() {
+        // NOTE: This override takes care of displaying the current choice in
+        //  its custom label form when a Combo Box is hosted by a Table Cell. It
+        //  also addresses an issue with the Jackson parser if in a JSON file.
+        return label();
+    }
+
+    @Override
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public BandFolding valueOfLabel( final String text ) {
+        return ( BandFolding ) EnumUtilities.getLabeledEnumFromLabel( text,
+                                                                      values() );
+    }
+}
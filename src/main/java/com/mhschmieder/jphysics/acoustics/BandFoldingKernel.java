@@ -0,0 +1,415 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * An immutable map from the bins of a frequency grid to the fractional octave
+ * bands of a Relative Bandwidth, for folding narrowband power spectra (such as
+ * from an FFT) into band levels.
+ * <p>
+ * Each bin is taken to span from halfway to the previous bin up to halfway to
+ * the next bin, and is weighted in each band by the fraction of its span that
+ * lies within the band, so that a bin straddling a band edge is split between
+ * the two bands and the total power is conserved. Every band holds a
+ * contiguous run of bins, stored back to back in one flat weights array in
+ * the same way as {@link SmoothingKernel}, so that folding a spectrum is one
+ * linear pass with no allocation.
+ * <p>
+ * The bands are those of {@link CenterFrequencyTable}, and so are numbered as
+ * per {@link FrequencySignalUtilities#getCenterFrequencyByBandNumber}; only
+ * the bands that overlap the grid are included, starting from
+ * {@link #getFirstBandNumber}. The first and last of these may only be partly
+ * covered by the grid, in which case their summed power reads low; see
+ * {@link #getCoveredFraction}.
+ * <p>
+ * Kernels are usually obtained from a {@link BandFoldingKernelCache}, so that
+ * each is only built once and is then shared by every client of its grid.
+ */
+public final class BandFoldingKernel {
+
+    // The Relative Bandwidth of the bands.
+    private final RelativeBandwidth relativeBandwidth;
+
+    // The band number of the first band covered by this kernel.
+    private final int firstBandNumber;
+
+    // The number of bands covered by this kernel.
+    private final int numberOfBands;
+
+    // The index of the first bin covered by each band.
+    private final int[] firstBinIndices;
+
+    // The start offset of each band within the flat weights array.
+    private final int[] tapOffsets;
+
+    // The number of taps (i.e. contiguous bins) for each band.
+    private final int[] numberOfTaps;
+
+    // The fraction of each bin that lies within each band, for all bands,
+    // stored back to back.
+    private final double[] weights;
+
+    // The reciprocal of the sum of the weights of each band, for the mean.
+    private final double[] inverseWeightSums;
+
+    // The fraction of the width of each band that is covered by the grid.
+    private final double[] coveredFractions;
+
+    /**
+     * Constructs a band folding kernel from pre-computed band layout and
+     * weights, which are adopted rather than copied.
+     *
+     * @param pRelativeBandwidth The Relative Bandwidth of the bands
+     * @param pFirstBandNumber The band number of the first band
+     * @param pNumberOfBands The number of bands
+     * @param pFirstBinIndices The index of the first bin for each band
+     * @param pTapOffsets The start offset of each band in the weights array
+     * @param pNumberOfTaps The number of taps in each band
+     * @param pWeights The weights for all bands, back to back
+     * @param pInverseWeightSums The reciprocal of the weight sum of each band
+     * @param pCoveredFractions The fraction of each band covered by the grid
+     */
+    private BandFoldingKernel( final RelativeBandwidth pRelativeBandwidth,
+                               final int pFirstBandNumber,
+                               final int pNumberOfBands,
+                               final int[] pFirstBinIndices,
+                               final int[] pTapOffsets,
+                               final int[] pNumberOfTaps,
+                               final double[] pWeights,
+                               final double[] pInverseWeightSums,
+                               final double[] pCoveredFractions ) {
+        relativeBandwidth = pRelativeBandwidth;
+        firstBandNumber = pFirstBandNumber;
+        numberOfBands = pNumberOfBands;
+        firstBinIndices = pFirstBinIndices;
+        tapOffsets = pTapOffsets;
+        numberOfTaps = pNumberOfTaps;
+        weights = pWeights;
+        inverseWeightSums = pInverseWeightSums;
+        coveredFractions = pCoveredFractions;
+    }
+
+    /**
+     * Makes a band folding kernel for the given frequency grid and Relative
+     * Bandwidth.
+     * <p>
+     * This is only worth calling directly for one-off grids; otherwise,
+     * {@link BandFoldingKernelCache} avoids building the same kernel twice.
+     *
+     * @param frequencyGrid The frequency grid of the spectra to fold
+     * @param relativeBandwidth The Relative Bandwidth of the bands
+     * @return A new band folding kernel
+     */
+    public static BandFoldingKernel makeBandFoldingKernel(
+            final FrequencyGrid frequencyGrid,
+            final RelativeBandwidth relativeBandwidth ) {
+        final CenterFrequencyTable centerFrequencyTable = CenterFrequencyTable
+                .getCenterFrequencyTable( relativeBandwidth );
+        final double[] frequencyBins = frequencyGrid.frequencyBins;
+        final int numberOfBins = frequencyGrid.getNumberOfBins();
+
+        // Find the edges of each bin, halfway to its neighbours, with the
+        // outer bins extending as far beyond the grid as they do into it.
+        final double[] binEdges = new double[ numberOfBins + 1 ];
+        if ( numberOfBins > 0 ) {
+            final double[] binWidths = frequencyGrid.getBinWidths();
+            binEdges[ 0 ] = frequencyBins[ 0 ] - ( 0.5d * binWidths[ 0 ] );
+            for ( int binIndex = 1; binIndex < numberOfBins; binIndex++ ) {
+                binEdges[ binIndex ] = 0.5d * ( frequencyBins[ binIndex - 1 ]
+                        + frequencyBins[ binIndex ] );
+            }
+            binEdges[ numberOfBins ] = frequencyBins[ numberOfBins - 1 ]
+                    + ( 0.5d * binWidths[ numberOfBins - 1 ] );
+        }
+
+        // Find the range of bands that overlap the span of the grid, if any;
+        // a single bin has no span, so no bands.
+        final int lastTableBandNumber = centerFrequencyTable.getNumberOfBands()
+                                        - 1;
+        int startBandNumber = 0;
+        int endBandNumber = -1;
+        if ( ( numberOfBins > 1 )
+                && ( binEdges[ 0 ] < centerFrequencyTable.getUpperBandEdge(
+                        lastTableBandNumber ) )
+                && ( binEdges[ numberOfBins ] > centerFrequencyTable
+                        .getLowerBandEdge( 0 ) ) ) {
+            startBandNumber = getClampedBandNumber( centerFrequencyTable,
+                                                    binEdges[ 0 ] );
+            endBandNumber = getClampedBandNumber(
+                    centerFrequencyTable,
+                    Math.nextDown( binEdges[ numberOfBins ] ) );
+        }
+        final int numberOfBands = endBandNumber - startBandNumber + 1;
+
+        // Lay out the taps of each band, using a merge-style walk as both the
+        // bands and the bins are in ascending order.
+        final int[] firstBinIndices = new int[ numberOfBands ];
+        final int[] tapOffsets = new int[ numberOfBands ];
+        final int[] numberOfTaps = new int[ numberOfBands ];
+        int totalNumberOfTaps = 0;
+        int binIndex = 0;
+        for ( int bandIndex = 0; bandIndex < numberOfBands; bandIndex++ ) {
+            final int bandNumber = startBandNumber + bandIndex;
+            final double lowerBandEdge = centerFrequencyTable.getLowerBandEdge(
+                    bandNumber );
+            final double upperBandEdge = centerFrequencyTable.getUpperBandEdge(
+                    bandNumber );
+            while ( ( binIndex < ( numberOfBins - 1 ) )
+                    && ( binEdges[ binIndex + 1 ] <= lowerBandEdge ) ) {
+                binIndex++;
+            }
+
+            int endBinIndex = binIndex;
+            while ( ( endBinIndex < numberOfBins )
+                    && ( binEdges[ endBinIndex ] < upperBandEdge ) ) {
+                endBinIndex++;
+            }
+
+            firstBinIndices[ bandIndex ] = binIndex;
+            tapOffsets[ bandIndex ] = totalNumberOfTaps;
+            numberOfTaps[ bandIndex ] = endBinIndex - binIndex;
+            totalNumberOfTaps += numberOfTaps[ bandIndex ];
+        }
+
+        // Weight each tap by the fraction of its bin that lies in the band,
+        // and note how much of the band the grid covers, as only the outer
+        // bands can fall short.
+        final double[] weights = new double[ totalNumberOfTaps ];
+        final double[] inverseWeightSums = new double[ numberOfBands ];
+        final double[] coveredFractions = new double[ numberOfBands ];
+        for ( int bandIndex = 0; bandIndex < numberOfBands; bandIndex++ ) {
+            final int bandNumber = startBandNumber + bandIndex;
+            final double lowerBandEdge = centerFrequencyTable.getLowerBandEdge(
+                    bandNumber );
+            final double upperBandEdge = centerFrequencyTable.getUpperBandEdge(
+                    bandNumber );
+
+            double weightSum = 0.0d;
+            final int firstBinIndex = firstBinIndices[ bandIndex ];
+            final int tapOffset = tapOffsets[ bandIndex ];
+            for ( int tapIndex = 0;
+                  tapIndex < numberOfTaps[ bandIndex ];
+                  tapIndex++ ) {
+                final double lowerBinEdge = binEdges[ firstBinIndex
+                        + tapIndex ];
+                final double upperBinEdge = binEdges[ firstBinIndex
+                        + tapIndex + 1 ];
+                final double overlap = FastMath.min( upperBandEdge, upperBinEdge )
+                        - FastMath.max( lowerBandEdge, lowerBinEdge );
+                final double weight = overlap / ( upperBinEdge - lowerBinEdge );
+                weights[ tapOffset + tapIndex ] = weight;
+                weightSum += weight;
+            }
+
+            inverseWeightSums[ bandIndex ] = ( weightSum > 0.0d )
+                                             ? 1.0d / weightSum
+                                             : Double.NaN;
+
+            final double coveredWidth = FastMath.min( upperBandEdge,
+                                                      binEdges[ numberOfBins ] )
+                    - FastMath.max( lowerBandEdge, binEdges[ 0 ] );
+            coveredFractions[ bandIndex ] = FastMath.min(
+                    1.0d,
+                    coveredWidth / ( upperBandEdge - lowerBandEdge ) );
+        }
+
+        return new BandFoldingKernel( relativeBandwidth,
+                                      startBandNumber,
+                                      numberOfBands,
+                                      firstBinIndices,
+                                      tapOffsets,
+                                      numberOfTaps,
+                                      weights,
+                                      inverseWeightSums,
+                                      coveredFractions );
+    }
+
+    // Get the number of the band that contains a frequency, or of the nearest
+    // band if the frequency is outside of the range of the table.
+    private static int getClampedBandNumber(
+            final CenterFrequencyTable centerFrequencyTable,
+            final double frequency ) {
+        if ( frequency < centerFrequencyTable.getLowerBandEdge( 0 ) ) {
+            return 0;
+        }
+
+        final int bandNumber = centerFrequencyTable.getBandNumber( frequency );
+        return ( bandNumber < 0 )
+               ? centerFrequencyTable.getNumberOfBands() - 1
+               : bandNumber;
+    }
+
+    /**
+     * Returns the Relative Bandwidth of the bands covered by this kernel.
+     *
+     * @return The Relative Bandwidth of the bands covered by this kernel
+     */
+    public RelativeBandwidth getRelativeBandwidth() {
+        return relativeBandwidth;
+    }
+
+    /**
+     * Returns the band number of the first band covered by this kernel, which
+     * corresponds to the first element of the folded band levels.
+     *
+     * @return The band number of the first band covered by this kernel
+     */
+    public int getFirstBandNumber() {
+        return firstBandNumber;
+    }
+
+    /**
+     * Returns the number of bands covered by this kernel, which is the number
+     * of folded band levels.
+     *
+     * @return The number of bands covered by this kernel
+     */
+    public int getNumberOfBands() {
+        return numberOfBands;
+    }
+
+    /**
+     * Returns the index of the first bin that contributes to a band.
+     *
+     * @param bandIndex The index of the band, relative to the first band
+     * @return The index of the first bin that contributes to the band
+     */
+    public int getFirstBinIndex( final int bandIndex ) {
+        return firstBinIndices[ bandIndex ];
+    }
+
+    /**
+     * Returns the number of taps (contiguous bins) that contribute to a band.
+     *
+     * @param bandIndex The index of the band, relative to the first band
+     * @return The number of taps for the band
+     */
+    public int getNumberOfTaps( final int bandIndex ) {
+        return numberOfTaps[ bandIndex ];
+    }
+
+    /**
+     * Returns the weight of a single tap of a band, which is the fraction of
+     * the tap's bin that lies within the band.
+     *
+     * @param bandIndex The index of the band, relative to the first band
+     * @param tapIndex The index of the tap, relative to the first bin
+     * @return The weight of the requested tap
+     */
+    public double getWeight( final int bandIndex,
+                             final int tapIndex ) {
+        return weights[ tapOffsets[ bandIndex ] + tapIndex ];
+    }
+
+    /**
+     * Returns the fraction of the width of a band (in Hertz) that is covered
+     * by the grid, which is one for every band but perhaps the first and last.
+     * <p>
+     * A partly covered band's summed power only accounts for the part that is
+     * covered, so callers may either drop such bands or divide by this
+     * fraction to estimate the whole band, presuming its spectrum is flat.
+     *
+     * @param bandIndex The index of the band, relative to the first band
+     * @return The fraction of the band covered by the grid, above zero and at
+     *         most one
+     */
+    public double getCoveredFraction( final int bandIndex ) {
+        return coveredFractions[ bandIndex ];
+    }
+
+    /**
+     * Folds a narrowband power spectrum into band powers.
+     *
+     * @param powers The power (not decibels) of each bin of the grid
+     * @param bandPowers The caller-owned output, with the power of each band
+     *                   from the first band onwards
+     * @param bandFolding Whether to sum or average the power in each band
+     */
+    public void fold( final double[] powers,
+                      final double[] bandPowers,
+                      final BandFolding bandFolding ) {
+        fold( powers, 0, bandPowers, 0, bandFolding );
+    }
+
+    /**
+     * Folds a narrowband power spectrum into band powers, with offsets into
+     * the input and output arrays, such as for spectra stored back to back.
+     * <p>
+     * The band powers may be converted to levels in place by
+     * {@link FrequencySignalUtilities#convertPowerRatiosToDecibels}.
+     *
+     * @param powers The power (not decibels) of each bin of the grid
+     * @param powersOffset The index of the first bin in the input array
+     * @param bandPowers The caller-owned output, with the power of each band
+     *                   from the first band onwards
+     * @param bandPowersOffset The index of the first band in the output array
+     * @param bandFolding Whether to sum or average the power in each band
+     */
+    public void fold( final double[] powers,
+                      final int powersOffset,
+                      final double[] bandPowers,
+                      final int bandPowersOffset,
+                      final BandFolding bandFolding ) {
+        final boolean mean;
+        switch ( bandFolding ) {
+            case POWER_SUM:
+                mean = false;
+                break;
+            case MEAN:
+                mean = true;
+                break;
+            default:
+                final String errMessage = "Unexpected "
+                                          + bandFolding.getClass()
+                                                       .getSimpleName()
+                                          + " " + bandFolding;
+                throw new IllegalArgumentException( errMessage );
+        }
+
+        for ( int bandIndex = 0; bandIndex < numberOfBands; bandIndex++ ) {
+            final int tapOffset = tapOffsets[ bandIndex ];
+            final int tapCount = numberOfTaps[ bandIndex ];
+            final int inOffset = powersOffset + firstBinIndices[ bandIndex ];
+
+            double bandPower = 0.0d;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                bandPower += weights[ tapOffset + tapIndex ]
+                        * powers[ inOffset + tapIndex ];
+            }
+
+            bandPowers[ bandPowersOffset + bandIndex ] = mean
+                    ? bandPower * inverseWeightSums[ bandIndex ]
+                    : bandPower;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import java.util.Objects;
+
+/**
+ * A thread-safe, bounded registry of band folding kernels, keyed by frequency
+ * grid and Relative Bandwidth.
+ * <p>
+ * This works the same way as {@link SmoothingKernelCache}: kernels are built
+ * outside of the lock on a miss, the least recently used kernel is evicted
+ * when the cache is full, and hit and miss counts are kept so that clients can
+ * judge whether the capacity suits their workload. Grids are matched by value,
+ * so separately constructed grids with the same bins share a kernel.
+ */
+public final class BandFoldingKernelCache {
+
+    // The default capacity is enough for a handful of grids that are each
+    // folded into a few different bandwidths.
+    public static final int MAXIMUM_NUMBER_OF_KERNELS_DEFAULT = 16;
+
+    // The shared instance, for clients that don't need a private cache.
+    private static final BandFoldingKernelCache SHARED_INSTANCE
+            = new BandFoldingKernelCache( MAXIMUM_NUMBER_OF_KERNELS_DEFAULT );
+
+    // The cached kernels, which also keeps the hit and miss counts.
+    private final LruCache< KernelKey, BandFoldingKernel > kernels;
+
+    /**
+     * Constructs a band folding kernel cache with the given capacity.
+     *
+     * @param pMaximumNumberOfKernels The maximum number of kernels to hold
+     *                                before evicting the least recently used
+     */
+    public BandFoldingKernelCache( final int pMaximumNumberOfKernels ) {
+        if ( pMaximumNumberOfKernels < 1 ) {
+            throw new IllegalArgumentException(
+                    "Band folding kernel cache capacity must be positive" );
+        }
+
+        kernels = new LruCache<>( pMaximumNumberOfKernels );
+    }
+
+    /**
+     * Returns the shared band folding kernel cache, which has the default
+     * capacity.
+     *
+     * @return The shared band folding kernel cache
+     */
+    public static BandFoldingKernelCache getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Returns the band folding kernel for the given frequency grid and
+     * Relative Bandwidth, building and caching it first if necessary.
+     *
+     * @param frequencyGrid The frequency grid of the spectra to fold
+     * @param relativeBandwidth The Relative Bandwidth of the bands
+     * @return The shared band folding kernel for the given parameters
+     */
+    public BandFoldingKernel getBandFoldingKernel( final FrequencyGrid frequencyGrid,
+                                                   final RelativeBandwidth relativeBandwidth ) {
+        final KernelKey key = new KernelKey( frequencyGrid, relativeBandwidth );
+
+        final BandFoldingKernel cachedKernel = kernels.get( key );
+        if ( cachedKernel != null ) {
+            return cachedKernel;
+        }
+
+        final BandFoldingKernel kernel = BandFoldingKernel
+                .makeBandFoldingKernel( frequencyGrid, relativeBandwidth );
+        return kernels.putIfAbsent( key, kernel );
+    }
+
+    /**
+     * Returns the number of requests that were satisfied by a cached kernel.
+     *
+     * @return The number of cache hits since construction or the last clear
+     */
+    public long getHitCount() {
+        return kernels.getHitCount();
+    }
+
+    /**
+     * Returns the number of requests that required a new kernel to be built.
+     *
+     * @return The number of cache misses since construction or the last clear
+     */
+    public long getMissCount() {
+        return kernels.getMissCount();
+    }
+
+    /**
+     * Returns the number of kernels currently held by the cache.
+     *
+     * @return The number of kernels currently held by the cache
+     */
+    public int size() {
+        return kernels.size();
+    }
+
+    /**
+     * Returns the maximum number of kernels held before evicting the least
+     * recently used kernel.
+     *
+     * @return The capacity of the cache
+     */
+    public int getMaximumNumberOfKernels() {
+        return kernels.getMaximumSize();
+    }
+
+    /**
+     * Removes all kernels from the cache and resets the hit and miss counts.
+     */
+    public void clear() {
+        kernels.clear();
+    }
+
+    /**
+     * The key for a cached kernel; as grids are immutable and compare by
+     * value, the grid itself serves as the key for its bins.
+     */
+    private static final class KernelKey {
+
+        private final FrequencyGrid frequencyGrid;
+        private final RelativeBandwidth relativeBandwidth;
+
+        KernelKey( final FrequencyGrid pFrequencyGrid,
+                   final RelativeBandwidth pRelativeBandwidth ) {
+            frequencyGrid = pFrequencyGrid;
+            relativeBandwidth = pRelativeBandwidth;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * frequencyGrid.hashCode()
+                   + Objects.hashCode( relativeBandwidth );
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            if ( this == other ) {
+                return true;
+            }
+            if ( !( other instanceof KernelKey ) ) {
+                return false;
+            }
+
+            final KernelKey otherKey = ( KernelKey ) other;
+            return ( relativeBandwidth == otherKey.relativeBandwidth )
+                   && frequencyGrid.equals( otherKey.frequencyGrid );
+        }
+    }
+}
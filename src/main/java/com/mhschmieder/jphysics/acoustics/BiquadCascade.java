@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+/**
+ * An immutable cascade of biquad sections, such as a parametric equalizer,
+ * whose overall transfer function is the product of those of its sections.
+ * <p>
+ * The normalized coefficients of all sections live in one flat primitive
+ * array, five per section in the order b0, b1, b2, a1, a2, so that evaluating
+ * or running a cascade of many sections walks contiguous memory.
+ * <p>
+ * A cascade has no setters, so to change a filter, make a new cascade and
+ * hand it to {@link BiquadProcessor#setBiquadCascade}, which is then free to
+ * read it from the audio thread without locking.
+ */
+public final class BiquadCascade {
+
+    // The number of coefficients stored per section.
+    static final int COEFFICIENTS_PER_SECTION = 5;
+
+    // The number of biquad sections in this cascade.
+    final int numberOfSections;
+
+    // The normalized coefficients of all sections, stored back to back.
+    final double[] coefficients;
+
+    /**
+     * Constructs a cascade of the supplied biquad sections, in order.
+     *
+     * @param biquadSections The biquad sections, which may be empty for a
+     *                       unity gain cascade
+     */
+    public BiquadCascade( final BiquadSection... biquadSections ) {
+        numberOfSections = biquadSections.length;
+        coefficients = new double[ numberOfSections
+                * COEFFICIENTS_PER_SECTION ];
+
+        int coefficientIndex = 0;
+        for ( final BiquadSection biquadSection : biquadSections ) {
+            coefficients[ coefficientIndex++ ] = biquadSection.b0;
+            coefficients[ coefficientIndex++ ] = biquadSection.b1;
+            coefficients[ coefficientIndex++ ] = biquadSection.b2;
+            coefficients[ coefficientIndex++ ] = biquadSection.a1;
+            coefficients[ coefficientIndex++ ] = biquadSection.a2;
+        }
+    }
+
+    /**
+     * Returns the number of biquad sections in this cascade.
+     *
+     * @return The number of biquad sections in this cascade
+     */
+    public int getNumberOfSections() {
+        return numberOfSections;
+    }
+
+    /**
+     * Returns the biquad section at the given position in this cascade.
+     *
+     * @param sectionIndex The position of the section in this cascade
+     * @return A biquad section with the same coefficients
+     */
+    public BiquadSection getBiquadSection( final int sectionIndex ) {
+        final int offset = sectionIndex * COEFFICIENTS_PER_SECTION;
+        return new BiquadSection( coefficients[ offset ],
+                                  coefficients[ offset + 1 ],
+                                  coefficients[ offset + 2 ],
+                                  1.0d,
+                                  coefficients[ offset + 3 ],
+                                  coefficients[ offset + 4 ] );
+    }
+}
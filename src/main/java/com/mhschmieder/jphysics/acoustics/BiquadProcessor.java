@@ -0,0 +1,474 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A streaming processor that runs a biquad cascade over blocks of samples for
+ * any number of channels, such as the time signals handled by
+ * {@link TimeSignalUtilities}, in place.
+ * <p>
+ * Each section uses the transposed direct form II structure, which needs only
+ * two state variables per section and channel, and has good numerical
+ * behaviour in floating-point. The state of all channels and sections lives in
+ * one flat primitive array, and coefficients are accumulated in double
+ * precision even when processing float blocks.
+ * <p>
+ * A new cascade may be submitted from any thread at any time via
+ * {@link #setBiquadCascade}; it is picked up without locking at the start of
+ * the next block, and the coefficients are then ramped linearly across that
+ * block so that parameter changes do not click. The cascade must have the
+ * same number of sections as the one this processor was constructed with;
+ * pad it with {@link BiquadSection#UNITY} sections where necessary.
+ * <p>
+ * Aside from {@link #setBiquadCascade}, a processor must only be driven from
+ * one thread at a time, which is normally the audio thread.
+ */
+public final class BiquadProcessor {
+
+    // Values of state below this are flushed to zero after each block, to
+    // avoid the steep cost of denormal arithmetic in decaying filter tails.
+    private static final double DENORMAL_THRESHOLD = 1.0e-30d;
+
+    // The number of channels that this processor keeps state for.
+    private final int numberOfChannels;
+
+    // The number of biquad sections per channel.
+    private final int numberOfSections;
+
+    // The two transposed direct form II state variables per section, for all
+    // sections of all channels, stored back to back by channel.
+    private final double[] state;
+
+    // The coefficients in effect at the start of the current block.
+    private final double[] coefficients;
+
+    // The coefficients to ramp to across the current block.
+    private final double[] targetCoefficients;
+
+    // The per-sample increment of each coefficient across the current block.
+    private final double[] coefficientSteps;
+
+    // The cascade most recently submitted but not yet picked up, if any.
+    private final AtomicReference< BiquadCascade > pendingCascade;
+
+    /**
+     * Constructs a processor for the given number of channels, starting out
+     * with the supplied cascade.
+     *
+     * @param pNumberOfChannels The number of channels to keep state for
+     * @param biquadCascade The initial biquad cascade, whose number of
+     *                      sections is fixed for the life of this processor
+     */
+    public BiquadProcessor( final int pNumberOfChannels,
+                            final BiquadCascade biquadCascade ) {
+        numberOfChannels = pNumberOfChannels;
+        numberOfSections = biquadCascade.numberOfSections;
+        state = new double[ pNumberOfChannels * numberOfSections * 2 ];
+        coefficients = biquadCascade.coefficients.clone();
+        targetCoefficients = new double[ coefficients.length ];
+        coefficientSteps = new double[ coefficients.length ];
+        pendingCascade = new AtomicReference<>();
+    }
+
+    /**
+     * Returns the number of channels that this processor keeps state for.
+     *
+     * @return The number of channels that this processor keeps state for
+     */
+    public int getNumberOfChannels() {
+        return numberOfChannels;
+    }
+
+    /**
+     * Returns the number of biquad sections per channel.
+     *
+     * @return The number of biquad sections per channel
+     */
+    public int getNumberOfSections() {
+        return numberOfSections;
+    }
+
+    /**
+     * Submits a new biquad cascade, to be ramped to across the next block.
+     * <p>
+     * This may be called from any thread. If several cascades are submitted
+     * before the next block, only the most recent one takes effect.
+     *
+     * @param biquadCascade The new biquad cascade, which must have the same
+     *                      number of sections as this processor
+     */
+    public void setBiquadCascade( final BiquadCascade biquadCascade ) {
+        if ( biquadCascade.numberOfSections != numberOfSections ) {
+            throw new IllegalArgumentException(
+                    "Biquad cascade must have " + numberOfSections
+                    + " sections" );
+        }
+
+        pendingCascade.set( biquadCascade );
+    }
+
+    /**
+     * Clears the filter state of all channels, such as after a discontinuity
+     * in the input.
+     */
+    public void reset() {
+        Arrays.fill( state, 0.0d );
+    }
+
+    /**
+     * Processes a whole block of samples in place, for each of the supplied
+     * channels.
+     *
+     * @param block The samples for each channel, which must all be of the
+     *              same length and no more in number than this processor's
+     *              channels
+     */
+    public void process( final double[][] block ) {
+        process( block, 0, ( block.length > 0 ) ? block[ 0 ].length : 0 );
+    }
+
+    /**
+     * Processes a range of samples in place, for each of the supplied
+     * channels.
+     *
+     * @param block The samples for each channel, no more in number than this
+     *              processor's channels
+     * @param offset The index of the first sample to process in each channel
+     * @param numberOfSamples The number of samples to process per channel
+     */
+    public void process( final double[][] block,
+                         final int offset,
+                         final int numberOfSamples ) {
+        // Validate the whole block up front, so that a bad block can't leave
+        // some channels filtered and a pending cascade half taken up.
+        checkNumberOfChannels( block.length );
+        for ( final double[] samples : block ) {
+            checkSampleRange( samples.length, offset, numberOfSamples );
+        }
+
+        final boolean ramping = beginBlock( numberOfSamples );
+
+        for ( int channelIndex = 0;
+              channelIndex < block.length;
+              channelIndex++ ) {
+            final double[] samples = block[ channelIndex ];
+            int stateIndex = channelIndex * numberOfSections * 2;
+            for ( int coefficientIndex = 0;
+                  coefficientIndex < coefficients.length;
+                  coefficientIndex += BiquadCascade.COEFFICIENTS_PER_SECTION ) {
+                if ( ramping ) {
+                    processSectionRamped( samples,
+                                          offset,
+                                          numberOfSamples,
+                                          stateIndex,
+                                          coefficientIndex );
+                }
+                else {
+                    processSection( samples,
+                                    offset,
+                                    numberOfSamples,
+                                    stateIndex,
+                                    coefficientIndex );
+                }
+                stateIndex += 2;
+            }
+        }
+
+        endBlock( ramping );
+    }
+
+    /**
+     * Processes a whole block of samples in place, for each of the supplied
+     * channels.
+     *
+     * @param block The samples for each channel, which must all be of the
+     *              same length and no more in number than this processor's
+     *              channels
+     */
+    public void process( final float[][] block ) {
+        process( block, 0, ( block.length > 0 ) ? block[ 0 ].length : 0 );
+    }
+
+    /**
+     * Processes a range of samples in place, for each of the supplied
+     * channels.
+     *
+     * @param block The samples for each channel, no more in number than this
+     *              processor's channels
+     * @param offset The index of the first sample to process in each channel
+     * @param numberOfSamples The number of samples to process per channel
+     */
+    public void process( final float[][] block,
+                         final int offset,
+                         final int numberOfSamples ) {
+        // Validate the whole block up front, so that a bad block can't leave
+        // some channels filtered and a pending cascade half taken up.
+        checkNumberOfChannels( block.length );
+        for ( final float[] samples : block ) {
+            checkSampleRange( samples.length, offset, numberOfSamples );
+        }
+
+        final boolean ramping = beginBlock( numberOfSamples );
+
+        for ( int channelIndex = 0;
+              channelIndex < block.length;
+              channelIndex++ ) {
+            final float[] samples = block[ channelIndex ];
+            int stateIndex = channelIndex * numberOfSections * 2;
+            for ( int coefficientIndex = 0;
+                  coefficientIndex < coefficients.length;
+                  coefficientIndex += BiquadCascade.COEFFICIENTS_PER_SECTION ) {
+                if ( ramping ) {
+                    processSectionRamped( samples,
+                                          offset,
+                                          numberOfSamples,
+                                          stateIndex,
+                                          coefficientIndex );
+                }
+                else {
+                    processSection( samples,
+                                    offset,
+                                    numberOfSamples,
+                                    stateIndex,
+                                    coefficientIndex );
+                }
+                stateIndex += 2;
+            }
+        }
+
+        endBlock( ramping );
+    }
+
+    // Check that a block has no more channels than this processor.
+    private void checkNumberOfChannels( final int numberOfBlockChannels ) {
+        if ( numberOfBlockChannels > numberOfChannels ) {
+            throw new IllegalArgumentException(
+                    "Block must have at most " + numberOfChannels
+                    + " channels" );
+        }
+    }
+
+    // Check that a range of samples lies within a channel of a block.
+    private static void checkSampleRange( final int channelLength,
+                                          final int offset,
+                                          final int numberOfSamples ) {
+        if ( ( offset < 0 ) || ( numberOfSamples < 0 )
+                || ( numberOfSamples > ( channelLength - offset ) ) ) {
+            throw new IllegalArgumentException(
+                    "Sample range is out of bounds for the block" );
+        }
+    }
+
+    // Pick up any pending cascade, and set up the coefficient ramp across the
+    // block if there is one, returning whether to ramp.
+    private boolean beginBlock( final int numberOfSamples ) {
+        final BiquadCascade biquadCascade = pendingCascade.getAndSet( null );
+        if ( biquadCascade == null ) {
+            return false;
+        }
+
+        final double[] newCoefficients = biquadCascade.coefficients;
+        if ( numberOfSamples <= 0 ) {
+            // NOTE: With nothing to ramp across, jump straight to the target.
+            System.arraycopy( newCoefficients,
+                              0,
+                              coefficients,
+                              0,
+                              coefficients.length );
+            return false;
+        }
+
+        final double inverseNumberOfSamples = 1.0d / numberOfSamples;
+        for ( int coefficientIndex = 0;
+              coefficientIndex < coefficients.length;
+              coefficientIndex++ ) {
+            targetCoefficients[ coefficientIndex ]
+                    = newCoefficients[ coefficientIndex ];
+            coefficientSteps[ coefficientIndex ]
+                    = ( newCoefficients[ coefficientIndex ]
+                        - coefficients[ coefficientIndex ] )
+                      * inverseNumberOfSamples;
+        }
+
+        return true;
+    }
+
+    // Land exactly on the target coefficients after a ramp, and flush any
+    // denormal state to zero.
+    private void endBlock( final boolean ramping ) {
+        if ( ramping ) {
+            System.arraycopy( targetCoefficients,
+                              0,
+                              coefficients,
+                              0,
+                              coefficients.length );
+        }
+
+        for ( int stateIndex = 0; stateIndex < state.length; stateIndex++ ) {
+            if ( FastMath.abs( state[ stateIndex ] ) < DENORMAL_THRESHOLD ) {
+                state[ stateIndex ] = 0.0d;
+            }
+        }
+    }
+
+    // Run one section over a range of samples with fixed coefficients.
+    private void processSection( final double[] samples,
+                                 final int offset,
+                                 final int numberOfSamples,
+                                 final int stateIndex,
+                                 final int coefficientIndex ) {
+        final double b0 = coefficients[ coefficientIndex ];
+        final double b1 = coefficients[ coefficientIndex + 1 ];
+        final double b2 = coefficients[ coefficientIndex + 2 ];
+        final double a1 = coefficients[ coefficientIndex + 3 ];
+        final double a2 = coefficients[ coefficientIndex + 4 ];
+
+        double s1 = state[ stateIndex ];
+        double s2 = state[ stateIndex + 1 ];
+        final int end = offset + numberOfSamples;
+        for ( int sampleIndex = offset; sampleIndex < end; sampleIndex++ ) {
+            final double x = samples[ sampleIndex ];
+            final double y = ( b0 * x ) + s1;
+            s1 = ( ( b1 * x ) - ( a1 * y ) ) + s2;
+            s2 = ( b2 * x ) - ( a2 * y );
+            samples[ sampleIndex ] = y;
+        }
+        state[ stateIndex ] = s1;
+        state[ stateIndex + 1 ] = s2;
+    }
+
+    // Run one section over a range of samples while ramping its coefficients
+    // linearly from their current values to their targets.
+    private void processSectionRamped( final double[] samples,
+                                       final int offset,
+                                       final int numberOfSamples,
+                                       final int stateIndex,
+                                       final int coefficientIndex ) {
+        double b0 = coefficients[ coefficientIndex ];
+        double b1 = coefficients[ coefficientIndex + 1 ];
+        double b2 = coefficients[ coefficientIndex + 2 ];
+        double a1 = coefficients[ coefficientIndex + 3 ];
+        double a2 = coefficients[ coefficientIndex + 4 ];
+        final double b0Step = coefficientSteps[ coefficientIndex ];
+        final double b1Step = coefficientSteps[ coefficientIndex + 1 ];
+        final double b2Step = coefficientSteps[ coefficientIndex + 2 ];
+        final double a1Step = coefficientSteps[ coefficientIndex + 3 ];
+        final double a2Step = coefficientSteps[ coefficientIndex + 4 ];
+
+        double s1 = state[ stateIndex ];
+        double s2 = state[ stateIndex + 1 ];
+        final int end = offset + numberOfSamples;
+        for ( int sampleIndex = offset; sampleIndex < end; sampleIndex++ ) {
+            b0 += b0Step;
+            b1 += b1Step;
+            b2 += b2Step;
+            a1 += a1Step;
+            a2 += a2Step;
+
+            final double x = samples[ sampleIndex ];
+            final double y = ( b0 * x ) + s1;
+            s1 = ( ( b1 * x ) - ( a1 * y ) ) + s2;
+            s2 = ( b2 * x ) - ( a2 * y );
+            samples[ sampleIndex ] = y;
+        }
+        state[ stateIndex ] = s1;
+        state[ stateIndex + 1 ] = s2;
+    }
+
+    // Run one section over a range of float samples with fixed coefficients.
+    private void processSection( final float[] samples,
+                                 final int offset,
+                                 final int numberOfSamples,
+                                 final int stateIndex,
+                                 final int coefficientIndex ) {
+        final double b0 = coefficients[ coefficientIndex ];
+        final double b1 = coefficients[ coefficientIndex + 1 ];
+        final double b2 = coefficients[ coefficientIndex + 2 ];
+        final double a1 = coefficients[ coefficientIndex + 3 ];
+        final double a2 = coefficients[ coefficientIndex + 4 ];
+
+        double s1 = state[ stateIndex ];
+        double s2 = state[ stateIndex + 1 ];
+        final int end = offset + numberOfSamples;
+        for ( int sampleIndex = offset; sampleIndex < end; sampleIndex++ ) {
+            final double x = samples[ sampleIndex ];
+            final double y = ( b0 * x ) + s1;
+            s1 = ( ( b1 * x ) - ( a1 * y ) ) + s2;
+            s2 = ( b2 * x ) - ( a2 * y );
+            samples[ sampleIndex ] = ( float ) y;
+        }
+        state[ stateIndex ] = s1;
+        state[ stateIndex + 1 ] = s2;
+    }
+
+    // Run one section over a range of float samples while ramping its
+    // coefficients linearly from their current values to their targets.
+    private void processSectionRamped( final float[] samples,
+                                       final int offset,
+                                       final int numberOfSamples,
+                                       final int stateIndex,
+                                       final int coefficientIndex ) {
+        double b0 = coefficients[ coefficientIndex ];
+        double b1 = coefficients[ coefficientIndex + 1 ];
+        double b2 = coefficients[ coefficientIndex + 2 ];
+        double a1 = coefficients[ coefficientIndex + 3 ];
+        double a2 = coefficients[ coefficientIndex + 4 ];
+        final double b0Step = coefficientSteps[ coefficientIndex ];
+        final double b1Step = coefficientSteps[ coefficientIndex + 1 ];
+        final double b2Step = coefficientSteps[ coefficientIndex + 2 ];
+        final double a1Step = coefficientSteps[ coefficientIndex + 3 ];
+        final double a2Step = coefficientSteps[ coefficientIndex + 4 ];
+
+        double s1 = state[ stateIndex ];
+        double s2 = state[ stateIndex + 1 ];
+        final int end = offset + numberOfSamples;
+        for ( int sampleIndex = offset; sampleIndex < end; sampleIndex++ ) {
+            b0 += b0Step;
+            b1 += b1Step;
+            b2 += b2Step;
+            a1 += a1Step;
+            a2 += a2Step;
+
+            final double x = samples[ sampleIndex ];
+            final double y = ( b0 * x ) + s1;
+            s1 = ( ( b1 * x ) - ( a1 * y ) ) + s2;
+            s2 = ( b2 * x ) - ( a2 * y );
+            samples[ sampleIndex ] = ( float ) y;
+        }
+        state[ stateIndex ] = s1;
+        state[ stateIndex + 1 ] = s2;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import com.mhschmieder.jmath.MathConstants;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * An evaluator for the combined frequency response of biquad cascades across
+ * a whole grid of frequencies, at a given sample rate.
+ * <p>
+ * The cosine and sine of the normalized angular frequency (omega*T) of each
+ * bin, and of twice that, are computed once at construction time, so that
+ * evaluating a section costs a handful of multiply-adds per bin with no
+ * trigonometry at all. The numerators and denominators of all sections are
+ * multiplied together per bin, and divided only once at the end, which keeps
+ * evaluation of even a 30-band equalizer across a dense grid cheap enough to
+ * redo on every parameter change.
+ * <p>
+ * Each evaluation writes into caller-owned arrays, so one evaluator may serve
+ * several threads at once.
+ */
+public final class BiquadResponseEvaluator {
+
+    // The sample rate (in Hertz) that the cascades run at.
+    private final double sampleRate;
+
+    // The number of bins in the frequency grid.
+    private final int numberOfBins;
+
+    // The cosine and sine of omega*T for each bin, for the z^-1 terms.
+    private final double[] cosines;
+    private final double[] sines;
+
+    // The cosine and sine of 2*omega*T for each bin, for the z^-2 terms.
+    private final double[] doubleAngleCosines;
+    private final double[] doubleAngleSines;
+
+    /**
+     * Constructs an evaluator for all of the supplied frequencies.
+     *
+     * @param frequenciesHz The frequency (in Hertz) of each bin
+     * @param pSampleRate The sample rate (in Hertz) that the cascades run at
+     */
+    public BiquadResponseEvaluator( final double[] frequenciesHz,
+                                    final double pSampleRate ) {
+        this( frequenciesHz, frequenciesHz.length, pSampleRate );
+    }
+
+    /**
+     * Constructs an evaluator for the bins of the supplied frequency grid.
+     *
+     * @param frequencyGrid The frequency grid to evaluate across
+     * @param pSampleRate The sample rate (in Hertz) that the cascades run at
+     */
+    public BiquadResponseEvaluator( final FrequencyGrid frequencyGrid,
+                                    final double pSampleRate ) {
+        this( frequencyGrid.frequencyBins,
+              frequencyGrid.getNumberOfBins(),
+              pSampleRate );
+    }
+
+    /**
+     * Constructs an evaluator for the leading frequencies of the supplied
+     * array.
+     *
+     * @param frequenciesHz The frequency (in Hertz) of each bin
+     * @param pNumberOfBins The number of bins to evaluate
+     * @param pSampleRate The sample rate (in Hertz) that the cascades run at
+     */
+    public BiquadResponseEvaluator( final double[] frequenciesHz,
+                                    final int pNumberOfBins,
+                                    final double pSampleRate ) {
+        sampleRate = pSampleRate;
+        numberOfBins = pNumberOfBins;
+        cosines = new double[ pNumberOfBins ];
+        sines = new double[ pNumberOfBins ];
+        doubleAngleCosines = new double[ pNumberOfBins ];
+        doubleAngleSines = new double[ pNumberOfBins ];
+
+        final double radiansPerHertz = MathConstants.TWO_PI / pSampleRate;
+        for ( int binIndex = 0; binIndex < pNumberOfBins; binIndex++ ) {
+            final double omegaT = radiansPerHertz * frequenciesHz[ binIndex ];
+            final double cosine = FastMath.cos( omegaT );
+            final double sine = FastMath.sin( omegaT );
+            cosines[ binIndex ] = cosine;
+            sines[ binIndex ] = sine;
+
+            // NOTE: The double angle identities are exact enough here, and
+            //  save a second round of trigonometry per bin.
+            doubleAngleCosines[ binIndex ] = ( cosine * cosine )
+                                             - ( sine * sine );
+            doubleAngleSines[ binIndex ] = 2.0d * sine * cosine;
+        }
+    }
+
+    /**
+     * Returns the sample rate (in Hertz) that this evaluator assumes.
+     *
+     * @return The sample rate (in Hertz) that this evaluator assumes
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Returns the number of bins that this evaluator evaluates across.
+     *
+     * @return The number of bins that this evaluator evaluates across
+     */
+    public int getNumberOfBins() {
+        return numberOfBins;
+    }
+
+    /**
+     * Evaluates the combined response of a biquad cascade, writing the
+     * complex response of each bin.
+     *
+     * @param biquadCascade The biquad cascade to evaluate
+     * @param response The caller-owned complex response, with at least as
+     *                 many bins as this evaluator
+     */
+    public void evaluate( final BiquadCascade biquadCascade,
+                          final ComplexSpectrum response ) {
+        computeResponse( biquadCascade,
+                         response.getReal(),
+                         response.getImaginary() );
+    }
+
+    /**
+     * Evaluates the combined response of a biquad cascade, writing the
+     * magnitude (in decibels) and phase (in degrees) of each bin.
+     *
+     * @param biquadCascade The biquad cascade to evaluate
+     * @param magnitudesDb The caller-owned magnitude response, in decibels
+     * @param phasesDegrees The caller-owned phase response, in degrees from
+     *                      -180 to +180
+     */
+    public void evaluate( final BiquadCascade biquadCascade,
+                          final double[] magnitudesDb,
+                          final double[] phasesDegrees ) {
+        // NOTE: The complex response is staged in the output arrays, and then
+        //  converted in place, so that no workspace is needed.
+        computeResponse( biquadCascade, magnitudesDb, phasesDegrees );
+        ComplexSpectrum.convertToMagnitudeAndPhase( magnitudesDb,
+                                                    phasesDegrees,
+                                                    numberOfBins );
+    }
+
+    // Evaluate a biquad cascade, writing the real and imaginary parts of the
+    // response of each bin.
+    private void computeResponse( final BiquadCascade biquadCascade,
+                                  final double[] responseReal,
+                                  final double[] responseImaginary ) {
+        final double[] coefficients = biquadCascade.coefficients;
+        final int numberOfCoefficients = coefficients.length;
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double cosine = cosines[ binIndex ];
+            final double sine = sines[ binIndex ];
+            final double doubleAngleCosine = doubleAngleCosines[ binIndex ];
+            final double doubleAngleSine = doubleAngleSines[ binIndex ];
+
+            double numeratorReal = 1.0d;
+            double numeratorImaginary = 0.0d;
+            double denominatorReal = 1.0d;
+            double denominatorImaginary = 0.0d;
+            for ( int coefficientIndex = 0;
+                  coefficientIndex < numberOfCoefficients;
+                  coefficientIndex += BiquadCascade.COEFFICIENTS_PER_SECTION ) {
+                final double b0 = coefficients[ coefficientIndex ];
+                final double b1 = coefficients[ coefficientIndex + 1 ];
+                final double b2 = coefficients[ coefficientIndex + 2 ];
+                final double a1 = coefficients[ coefficientIndex + 3 ];
+                final double a2 = coefficients[ coefficientIndex + 4 ];
+
+                // As z^-1 = cos(omega*T) - j*sin(omega*T), each polynomial in
+                // z^-1 reduces to a pair of dot products with the tables.
+                final double sectionNumeratorReal
+                        = b0 + ( b1 * cosine ) + ( b2 * doubleAngleCosine );
+                final double sectionNumeratorImaginary
+                        = -( ( b1 * sine ) + ( b2 * doubleAngleSine ) );
+                final double sectionDenominatorReal
+                        = 1.0d + ( a1 * cosine ) + ( a2 * doubleAngleCosine );
+                final double sectionDenominatorImaginary
+                        = -( ( a1 * sine ) + ( a2 * doubleAngleSine ) );
+
+                final double partialNumeratorReal = numeratorReal;
+                numeratorReal = ( partialNumeratorReal * sectionNumeratorReal )
+                                - ( numeratorImaginary
+                                    * sectionNumeratorImaginary );
+                numeratorImaginary = ( partialNumeratorReal
+                                       * sectionNumeratorImaginary )
+                                     + ( numeratorImaginary
+                                         * sectionNumeratorReal );
+
+                final double partialDenominatorReal = denominatorReal;
+                denominatorReal = ( partialDenominatorReal
+                                    * sectionDenominatorReal )
+                                  - ( denominatorImaginary
+                                      * sectionDenominatorImaginary );
+                denominatorImaginary = ( partialDenominatorReal
+                                         * sectionDenominatorImaginary )
+                                       + ( denominatorImaginary
+                                           * sectionDenominatorReal );
+            }
+
+            ComplexSpectrum.divide( numeratorReal,
+                                    numeratorImaginary,
+                                    denominatorReal,
+                                    denominatorImaginary,
+                                    responseReal,
+                                    responseImaginary,
+                                    binIndex );
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import com.mhschmieder.jmath.MathConstants;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * An immutable second order (biquadratic) digital filter section, with the
+ * transfer function H(z) = (b0 + b1*z^-1 + b2*z^-2) / (1 + a1*z^-1 + a2*z^-2),
+ * where the coefficients have been normalized by a0.
+ * <p>
+ * Sections are usually made from filter design parameters per the Audio EQ
+ * Cookbook, via {@link #makeBiquadSection}, but may also be made from raw
+ * coefficients, such as those from another design method.
+ *
+ * @see <a href="https://webaudio.github.io/Audio-EQ-Cookbook/Audio-EQ-Cookbook.txt">Audio EQ Cookbook</a>
+ */
+public final class BiquadSection {
+
+    // A unity gain section, which passes its input through unchanged.
+    public static final BiquadSection UNITY = new BiquadSection( 1.0d,
+                                                                 0.0d,
+                                                                 0.0d,
+                                                                 1.0d,
+                                                                 0.0d,
+                                                                 0.0d );
+
+    // The feed-forward (numerator) coefficients, normalized by a0.
+    final double b0;
+    final double b1;
+    final double b2;
+
+    // The feedback (denominator) coefficients, normalized by a0.
+    final double a1;
+    final double a2;
+
+    /**
+     * Constructs a biquad section from raw coefficients, which are normalized
+     * by a0.
+     *
+     * @param pB0 The zeroth feed-forward coefficient
+     * @param pB1 The first feed-forward coefficient
+     * @param pB2 The second feed-forward coefficient
+     * @param pA0 The zeroth feedback coefficient, which must be non-zero
+     * @param pA1 The first feedback coefficient
+     * @param pA2 The second feedback coefficient
+     */
+    public BiquadSection( final double pB0,
+                          final double pB1,
+                          final double pB2,
+                          final double pA0,
+                          final double pA1,
+                          final double pA2 ) {
+        if ( pA0 == 0.0d ) {
+            throw new IllegalArgumentException(
+                    "Zeroth feedback coefficient must be non-zero" );
+        }
+
+        b0 = pB0 / pA0;
+        b1 = pB1 / pA0;
+        b2 = pB2 / pA0;
+        a1 = pA1 / pA0;
+        a2 = pA2 / pA0;
+    }
+
+    /**
+     * Makes a biquad section from filter design parameters, per the Audio EQ
+     * Cookbook.
+     *
+     * @param biquadType The response shape of the section
+     * @param sampleRate The sample rate (in Hertz)
+     * @param frequency The center frequency, corner frequency or shelf
+     *                  midpoint frequency (in Hertz)
+     * @param qualityFactor The quality factor (aka Q); for shelving types,
+     *                      this is the cookbook's Q rather than its slope
+     * @param gainDb The peak or shelf gain (in decibels), which is ignored by
+     *               types without a gain
+     * @return A new biquad section
+     */
+    public static BiquadSection makeBiquadSection( final BiquadType biquadType,
+                                                   final double sampleRate,
+                                                   final double frequency,
+                                                   final double qualityFactor,
+                                                   final double gainDb ) {
+        final double w0 = MathConstants.TWO_PI * frequency / sampleRate;
+        final double cosW0 = FastMath.cos( w0 );
+        final double sinW0 = FastMath.sin( w0 );
+        final double alpha = sinW0 / ( 2.0d * qualityFactor );
+
+        switch ( biquadType ) {
+            case LOW_PASS:
+                return new BiquadSection( 0.5d * ( 1.0d - cosW0 ),
+                                          1.0d - cosW0,
+                                          0.5d * ( 1.0d - cosW0 ),
+                                          1.0d + alpha,
+                                          -2.0d * cosW0,
+                                          1.0d - alpha );
+            case HIGH_PASS:
+                return new BiquadSection( 0.5d * ( 1.0d + cosW0 ),
+                                          -( 1.0d + cosW0 ),
+                                          0.5d * ( 1.0d + cosW0 ),
+                                          1.0d + alpha,
+                                          -2.0d * cosW0,
+                                          1.0d - alpha );
+            case BAND_PASS:
+                // This is the constant 0 dB peak gain variant.
+                return new BiquadSection( alpha,
+                                          0.0d,
+                                          -alpha,
+                                          1.0d + alpha,
+                                          -2.0d * cosW0,
+                                          1.0d - alpha );
+            case NOTCH:
+                return new BiquadSection( 1.0d,
+                                          -2.0d * cosW0,
+                                          1.0d,
+                                          1.0d + alpha,
+                                          -2.0d * cosW0,
+                                          1.0d - alpha );
+            case ALL_PASS:
+                return new BiquadSection( 1.0d - alpha,
+                                          -2.0d * cosW0,
+                                          1.0d + alpha,
+                                          1.0d + alpha,
+                                          -2.0d * cosW0,
+                                          1.0d - alpha );
+            case PEAKING: {
+                final double a = FrequencySignalUtilities
+                        .getPeakingVoltageRatio( gainDb );
+                return new BiquadSection( 1.0d + ( alpha * a ),
+                                          -2.0d * cosW0,
+                                          1.0d - ( alpha * a ),
+                                          1.0d + ( alpha / a ),
+                                          -2.0d * cosW0,
+                                          1.0d - ( alpha / a ) );
+            }
+            case LOW_SHELF: {
+                final double a = FrequencySignalUtilities
+                        .getPeakingVoltageRatio( gainDb );
+                final double twoSqrtAAlpha = 2.0d * FastMath.sqrt( a ) * alpha;
+                return new BiquadSection(
+                        a * ( ( a + 1.0d ) - ( ( a - 1.0d ) * cosW0 )
+                              + twoSqrtAAlpha ),
+                        2.0d * a * ( ( a - 1.0d ) - ( ( a + 1.0d ) * cosW0 ) ),
+                        a * ( ( a + 1.0d ) - ( ( a - 1.0d ) * cosW0 )
+                              - twoSqrtAAlpha ),
+                        ( a + 1.0d ) + ( ( a - 1.0d ) * cosW0 ) + twoSqrtAAlpha,
+                        -2.0d * ( ( a - 1.0d ) + ( ( a + 1.0d ) * cosW0 ) ),
+                        ( a + 1.0d ) + ( ( a - 1.0d ) * cosW0 )
+                        - twoSqrtAAlpha );
+            }
+            case HIGH_SHELF: {
+                final double a = FrequencySignalUtilities
+                        .getPeakingVoltageRatio( gainDb );
+                final double twoSqrtAAlpha = 2.0d * FastMath.sqrt( a ) * alpha;
+                return new BiquadSection(
+                        a * ( ( a + 1.0d ) + ( ( a - 1.0d ) * cosW0 )
+                              + twoSqrtAAlpha ),
+                        -2.0d * a * ( ( a - 1.0d ) + ( ( a + 1.0d ) * cosW0 ) ),
+                        a * ( ( a + 1.0d ) + ( ( a - 1.0d ) * cosW0 )
+                              - twoSqrtAAlpha ),
+                        ( a + 1.0d ) - ( ( a - 1.0d ) * cosW0 ) + twoSqrtAAlpha,
+                        2.0d * ( ( a - 1.0d ) - ( ( a + 1.0d ) * cosW0 ) ),
+                        ( a + 1.0d ) - ( ( a - 1.0d ) * cosW0 )
+                        - twoSqrtAAlpha );
+            }
+            default:
+                final String errMessage = "Unexpected "
+                                          + biquadType.getClass()
+                                                      .getSimpleName()
+                                          + " " + biquadType;
+                throw new IllegalArgumentException( errMessage );
+        }
+    }
+
+    public double getB0() {
+        return b0;
+    }
+
+    public double getB1() {
+        return b1;
+    }
+
+    public double getB2() {
+        return b2;
+    }
+
+    public double getA1() {
+        return a1;
+    }
+
+    public double getA2() {
+        return a2;
+    }
+}
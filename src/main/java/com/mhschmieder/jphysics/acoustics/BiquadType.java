@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import com.mhschmieder.jcommons.lang.EnumUtilities;
+import com.mhschmieder.jcommons.lang.Labeled;
+
+/**
+ * Biquad Type refers to the response shape of a second order (biquadratic)
+ * digital filter section, per the Audio EQ Cookbook.
+ * <p>
+ * Only the peaking and shelving types make use of a gain; the others are
+ * unity gain in their pass bands.
+ *
+ * @see <a href="https://webaudio.github.io/Audio-EQ-Cookbook/Audio-EQ-Cookbook.txt">Audio EQ Cookbook</a>
+ */
+public enum BiquadType implements Labeled< BiquadType > {
+    LOW_PASS( "Low Pass" ),
+    HIGH_PASS( "High Pass" ),
+    BAND_PASS( "Band Pass" ),
+    NOTCH( "Notch" ),
+    ALL_PASS( "All Pass" ),
+    PEAKING( "Peaking" ),
+    LOW_SHELF( "Low Shelf" ),
+    HIGH_SHELF( "High Shelf" );
+
+    private final String label;
+
+    BiquadType( final String pLabel ) {
+        label = pLabel;
+    }
+
+    public static BiquadType defaultValue() {
+        return PEAKING;
+    }
+
+    @Override
+    public String toString() {
+        // NOTE: This override takes care of displaying the current choice in
+        //  its custom label form when a Combo Box is hosted by a Table Cell. It
+        //  also addresses an issue with the Jackson parser if in a JSON file.
+        return label();
+    }
+
+    @Override
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public BiquadType valueOfLabel( final String text ) {
+        return ( BiquadType ) EnumUtilities.getLabeledEnumFromLabel( text,
+                                                                     values() );
+    }
+
+    /**
+     * Returns whether this type of biquad section makes use of a gain.
+     *
+     * @return {@code true} if this type makes use of a gain
+     */
+    public boolean hasGain() {
+        return ( this == PEAKING ) || ( this == LOW_SHELF )
+               || ( this == HIGH_SHELF );
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * An immutable table of the fractional octave bands for one Relative
+ * Bandwidth, holding the exact base two center frequency, the band edges and
+ * the preferred nominal center frequency of each band, indexed by band number.
+ * <p>
+ * Band numbers follow {@link FrequencySignalUtilities#getCenterFrequencyByBandNumber},
+ * so band 10*N is 1 kHz for an octave divider of N, and the table covers
+ * bands 0 through 15*N (i.e. from just under 1 Hz to just over 31.5 kHz).
+ * Each band spans from its lower edge, inclusive, to the lower edge of the
+ * next band, exclusive, with the edges half a band either side of the center.
+ * <p>
+ * The nominal center frequencies are those of {@link CenterFrequencies} where
+ * they exist for the band, including finer bands that coincide with a third
+ * octave band, and are otherwise the exact center frequencies rounded to
+ * three significant digits.
+ * <p>
+ * Tables are built on first request for each Relative Bandwidth, and then
+ * shared for the life of the application, so may safely be requested as
+ * often as needed.
+ */
+public final class CenterFrequencyTable {
+
+    // The number of octaves covered by the table, from band 0 upwards.
+    private static final int NUMBER_OF_OCTAVES = 15;
+
+    // The number of octaves below 1 kHz at which band 0 lies.
+    private static final int OCTAVES_BELOW_1KHZ = 10;
+
+    // The base two logarithm of 1 kHz, the reference for band numbers.
+    private static final double LOG2_1KHZ = FastMath.log( 1000.0d )
+                                            / FastMath.log( 2.0d );
+
+    // The shared tables, one per Relative Bandwidth, built on first request.
+    // NOTE: As every field of a table is final, a table published by a racy
+    //  write is still seen fully built by other threads; two threads that ask
+    //  for the same new table at the same time may both build it, but as they
+    //  build identical tables, either one may be kept.
+    private static final CenterFrequencyTable[] CENTER_FREQUENCY_TABLES
+            = new CenterFrequencyTable[ RelativeBandwidth.values().length ];
+
+    // The Relative Bandwidth of the bands in this table.
+    private final RelativeBandwidth relativeBandwidth;
+
+    // The octave divider of the Relative Bandwidth.
+    private final int octaveDivider;
+
+    // The number of bands in this table.
+    private final int numberOfBands;
+
+    // The exact center frequency (in Hertz) of each band.
+    private final double[] centerFrequencies;
+
+    // The preferred nominal center frequency (in Hertz) of each band.
+    private final double[] nominalCenterFrequencies;
+
+    // The lower edge (in Hertz) of each band, followed by the upper edge of
+    // the last band.
+    private final double[] bandEdges;
+
+    /**
+     * Returns the shared table of bands for the given Relative Bandwidth,
+     * building it on first request.
+     *
+     * @param relativeBandwidth The Relative Bandwidth of the bands
+     * @return The shared table of bands for the given Relative Bandwidth
+     */
+    public static CenterFrequencyTable getCenterFrequencyTable(
+            final RelativeBandwidth relativeBandwidth ) {
+        final int tableIndex = relativeBandwidth.ordinal();
+        CenterFrequencyTable centerFrequencyTable
+                = CENTER_FREQUENCY_TABLES[ tableIndex ];
+        if ( centerFrequencyTable == null ) {
+            centerFrequencyTable = new CenterFrequencyTable( relativeBandwidth );
+            CENTER_FREQUENCY_TABLES[ tableIndex ] = centerFrequencyTable;
+        }
+
+        return centerFrequencyTable;
+    }
+
+    /**
+     * Constructs the table of bands for the given Relative Bandwidth.
+     *
+     * @param pRelativeBandwidth The Relative Bandwidth of the bands
+     */
+    private CenterFrequencyTable( final RelativeBandwidth pRelativeBandwidth ) {
+        relativeBandwidth = pRelativeBandwidth;
+        octaveDivider = pRelativeBandwidth.toOctaveDivider();
+        numberOfBands = ( NUMBER_OF_OCTAVES * octaveDivider ) + 1;
+        centerFrequencies = new double[ numberOfBands ];
+        nominalCenterFrequencies = new double[ numberOfBands ];
+        bandEdges = new double[ numberOfBands + 1 ];
+
+        final int bandNumberAt1kHz = OCTAVES_BELOW_1KHZ * octaveDivider;
+        for ( int bandNumber = 0; bandNumber < numberOfBands; bandNumber++ ) {
+            // NOTE: The center frequencies are computed the same way as by
+            //  the legacy per-band method, so as to match it exactly.
+            centerFrequencies[ bandNumber ] = FrequencySignalUtilities
+                    .getCenterFrequencyByBandNumber( bandNumber,
+                                                     octaveDivider );
+            nominalCenterFrequencies[ bandNumber ] = findNominalCenterFrequency(
+                    bandNumber - bandNumberAt1kHz,
+                    centerFrequencies[ bandNumber ] );
+        }
+
+        // Each edge lies half a band below the center of the band above it.
+        for ( int edgeIndex = 0; edgeIndex <= numberOfBands; edgeIndex++ ) {
+            bandEdges[ edgeIndex ] = 1000.0d * FastMath.pow(
+                    2.0d,
+                    ( ( edgeIndex - bandNumberAt1kHz ) - 0.5d )
+                    / octaveDivider );
+        }
+    }
+
+    // Get the preferred nominal center frequency of a band, given its offset
+    // from the band at 1 kHz and its exact center frequency.
+    private double findNominalCenterFrequency( final int bandOffsetFrom1kHz,
+                                               final double centerFrequency ) {
+        double nominalCenterFrequency = Double.NaN;
+
+        if ( octaveDivider == 1 ) {
+            nominalCenterFrequency = getTabulatedFrequency(
+                    CenterFrequencies.NOMINAL_FULL_OCTAVE_CENTER_FREQUENCIES,
+                    bandOffsetFrom1kHz + OCTAVES_BELOW_1KHZ );
+        }
+        else if ( ( octaveDivider % 3 ) == 0 ) {
+            final int bandsPerThirdOctave = octaveDivider / 3;
+            if ( ( bandOffsetFrom1kHz % bandsPerThirdOctave ) == 0 ) {
+                nominalCenterFrequency = getTabulatedFrequency(
+                        CenterFrequencies.NOMINAL_THIRD_OCTAVE_CENTER_FREQUENCIES,
+                        ( bandOffsetFrom1kHz / bandsPerThirdOctave )
+                        + ( 3 * OCTAVES_BELOW_1KHZ ) );
+            }
+        }
+
+        return Double.isNaN( nominalCenterFrequency )
+               ? roundToThreeSignificantDigits( centerFrequency )
+               : nominalCenterFrequency;
+    }
+
+    // Get a tabulated nominal frequency, or NaN if out of the table's range.
+    private static double getTabulatedFrequency( final double[] frequencies,
+                                                 final int index ) {
+        return ( ( index >= 0 ) && ( index < frequencies.length ) )
+               ? frequencies[ index ]
+               : Double.NaN;
+    }
+
+    // Round a positive frequency to three significant digits.
+    private static double roundToThreeSignificantDigits( final double frequency ) {
+        final int decimalPlaces = 2 - ( int ) FastMath.floor(
+                FastMath.log10( frequency ) );
+
+        // NOTE: Scaling only ever by exact (non-negative) powers of ten avoids
+        //  trailing rounding noise such as 1.0900000000000001.
+        if ( decimalPlaces > 0 ) {
+            final double scale = FastMath.pow( 10.0d, decimalPlaces );
+            return FastMath.round( frequency * scale ) / scale;
+        }
+
+        final double scale = FastMath.pow( 10.0d, -decimalPlaces );
+        return FastMath.round( frequency / scale ) * scale;
+    }
+
+    /**
+     * Returns the Relative Bandwidth of the bands in this table.
+     *
+     * @return The Relative Bandwidth of the bands in this table
+     */
+    public RelativeBandwidth getRelativeBandwidth() {
+        return relativeBandwidth;
+    }
+
+    /**
+     * Returns the number of bands in this table, which are numbered from zero.
+     *
+     * @return The number of bands in this table
+     */
+    public int getNumberOfBands() {
+        return numberOfBands;
+    }
+
+    /**
+     * Returns the number of the band whose center frequency is 1 kHz.
+     *
+     * @return The number of the band whose center frequency is 1 kHz
+     */
+    public int getBandNumberAt1kHz() {
+        return OCTAVES_BELOW_1KHZ * octaveDivider;
+    }
+
+    /**
+     * Returns the exact base two center frequency of a band.
+     *
+     * @param bandNumber The number of the band
+     * @return The exact center frequency (in Hertz) of the band
+     */
+    public double getCenterFrequency( final int bandNumber ) {
+        return centerFrequencies[ bandNumber ];
+    }
+
+    /**
+     * Returns the preferred nominal center frequency of a band, which is what
+     * is normally used to label the band.
+     *
+     * @param bandNumber The number of the band
+     * @return The nominal center frequency (in Hertz) of the band
+     */
+    public double getNominalCenterFrequency( final int bandNumber ) {
+        return nominalCenterFrequencies[ bandNumber ];
+    }
+
+    /**
+     * Returns the label of a band, based on its nominal center frequency.
+     *
+     * @param bandNumber The number of the band
+     * @param frequencyFormat The (thread-safe) frequency format to use
+     * @return The label of the band, such as "31.5 Hz" or "1 kHz"
+     */
+    public String getNominalLabel( final int bandNumber,
+                                   final FrequencyFormat frequencyFormat ) {
+        return frequencyFormat.format( nominalCenterFrequencies[ bandNumber ] );
+    }
+
+    /**
+     * Returns the lower edge of a band, which is inclusive.
+     *
+     * @param bandNumber The number of the band
+     * @return The lower edge (in Hertz) of the band
+     */
+    public double getLowerBandEdge( final int bandNumber ) {
+        return bandEdges[ bandNumber ];
+    }
+
+    /**
+     * Returns the upper edge of a band, which is exclusive, and is also the
+     * lower edge of the next band.
+     *
+     * @param bandNumber The number of the band
+     * @return The upper edge (in Hertz) of the band
+     */
+    public double getUpperBandEdge( final int bandNumber ) {
+        return bandEdges[ bandNumber + 1 ];
+    }
+
+    /**
+     * Returns the number of the band that contains a frequency, in constant
+     * time.
+     * <p>
+     * The band is first estimated from the logarithm of the frequency, and
+     * then checked against the band edges, so that a frequency exactly on an
+     * edge always falls in the band above it.
+     *
+     * @param frequency The frequency (in Hertz) to look up
+     * @return The number of the band that contains the frequency, or -1 if it
+     *         is outside of the range of this table or is NaN
+     */
+    public int getBandNumber( final double frequency ) {
+        if ( !( frequency >= bandEdges[ 0 ] )
+                || ( frequency >= bandEdges[ numberOfBands ] ) ) {
+            return -1;
+        }
+
+        int bandNumber = ( int ) FastMath.rint( octaveDivider
+                * ( ApproximateMath.log2( frequency ) - LOG2_1KHZ ) )
+                         + getBandNumberAt1kHz();
+        bandNumber = FastMath.max( 0, FastMath.min( numberOfBands - 1,
+                                                    bandNumber ) );
+
+        // NOTE: The estimate can only be out by one, right at a band edge.
+        while ( frequency < bandEdges[ bandNumber ] ) {
+            bandNumber--;
+        }
+        while ( frequency >= bandEdges[ bandNumber + 1 ] ) {
+            bandNumber++;
+        }
+
+        return bandNumber;
+    }
+
+    /**
+     * Looks up the band numbers of many frequencies at once.
+     *
+     * @param frequencies The frequencies (in Hertz) to look up
+     * @param bandNumbers The caller-owned output, with the band number for
+     *                    each frequency, or -1 where out of range
+     * @param numberOfFrequencies The number of frequencies to look up
+     */
+    public void getBandNumbers( final double[] frequencies,
+                                final int[] bandNumbers,
+                                final int numberOfFrequencies ) {
+        for ( int index = 0; index < numberOfFrequencies; index++ ) {
+            bandNumbers[ index ] = getBandNumber( frequencies[ index ] );
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * A complex spectrum, stored as separate arrays of real and imaginary parts
+ * rather than as one {@link Complex} object per bin.
+ * <p>
+ * None of the operations allocate; each writes into caller-owned arrays or
+ * into a caller-owned result spectrum, which may be this spectrum itself for
+ * in-place operation. This avoids creating garbage at the rate of one object
+ * per bin per operation when processing large spectra at display rates.
+ * <p>
+ * The backing arrays are exposed directly, so that spectra can be filled from
+ * (and passed to) other array-based code without copying. A spectrum is not
+ * thread-safe while it is being modified.
+ */
+public final class ComplexSpectrum {
+
+    // The number of bins in this spectrum.
+    private final int numberOfBins;
+
+    // The real part of each bin.
+    private final double[] real;
+
+    // The imaginary part of each bin.
+    private final double[] imaginary;
+
+    /**
+     * Constructs a complex spectrum of the given size, initialized to zero.
+     *
+     * @param pNumberOfBins The number of bins in the spectrum
+     */
+    public ComplexSpectrum( final int pNumberOfBins ) {
+        this( new double[ pNumberOfBins ], new double[ pNumberOfBins ] );
+    }
+
+    /**
+     * Constructs a complex spectrum backed by the supplied arrays, which are
+     * adopted rather than copied, so that changes to either are visible via
+     * the other.
+     *
+     * @param pReal The real part of each bin
+     * @param pImaginary The imaginary part of each bin, with the same number
+     *                   of bins as the real parts
+     */
+    public ComplexSpectrum( final double[] pReal,
+                            final double[] pImaginary ) {
+        if ( pReal.length != pImaginary.length ) {
+            throw new IllegalArgumentException(
+                    "Real and imaginary parts must have the same length" );
+        }
+
+        numberOfBins = pReal.length;
+        real = pReal;
+        imaginary = pImaginary;
+    }
+
+    /**
+     * Returns the number of bins in this spectrum.
+     *
+     * @return The number of bins in this spectrum
+     */
+    public int getNumberOfBins() {
+        return numberOfBins;
+    }
+
+    /**
+     * Returns the backing array of real parts, for direct access.
+     *
+     * @return The backing array of real parts
+     */
+    public double[] getReal() {
+        return real;
+    }
+
+    /**
+     * Returns the backing array of imaginary parts, for direct access.
+     *
+     * @return The backing array of imaginary parts
+     */
+    public double[] getImaginary() {
+        return imaginary;
+    }
+
+    /**
+     * Sets the value of a single bin.
+     *
+     * @param binIndex The index of the bin
+     * @param realPart The real part of the bin
+     * @param imaginaryPart The imaginary part of the bin
+     */
+    public void setValue( final int binIndex,
+                          final double realPart,
+                          final double imaginaryPart ) {
+        real[ binIndex ] = realPart;
+        imaginary[ binIndex ] = imaginaryPart;
+    }
+
+    /**
+     * Sets the value of a single bin from a {@link Complex} value, for
+     * interoperability with code that works with complex objects.
+     *
+     * @param binIndex The index of the bin
+     * @param complexValue The complex value of the bin
+     */
+    public void setValue( final int binIndex,
+                          final Complex complexValue ) {
+        setValue( binIndex,
+                  complexValue.getReal(),
+                  complexValue.getImaginary() );
+    }
+
+    /**
+     * Returns the value of a single bin as a new {@link Complex} value, for
+     * interoperability with code that works with complex objects.
+     *
+     * @param binIndex The index of the bin
+     * @return A new complex value for the bin
+     */
+    public Complex getValue( final int binIndex ) {
+        return new Complex( real[ binIndex ], imaginary[ binIndex ] );
+    }
+
+    /**
+     * Writes the magnitude (the square root of the sum of the squares of the
+     * real and imaginary parts) of each bin into caller-owned output.
+     *
+     * @param magnitudes The caller-owned output, with at least as many bins
+     *                   as this spectrum
+     */
+    public void getMagnitudes( final double[] magnitudes ) {
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double realPart = real[ binIndex ];
+            final double imaginaryPart = imaginary[ binIndex ];
+            magnitudes[ binIndex ] = FastMath.sqrt( ( realPart * realPart )
+                    + ( imaginaryPart * imaginaryPart ) );
+        }
+    }
+
+    /**
+     * Writes the magnitude of each bin, in decibels, into caller-owned output.
+     * <p>
+     * This works from the squared magnitude, so avoids a square root per bin.
+     *
+     * @param magnitudesDb The caller-owned output, with at least as many bins
+     *                     as this spectrum
+     */
+    public void getMagnitudesDb( final double[] magnitudesDb ) {
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double realPart = real[ binIndex ];
+            final double imaginaryPart = imaginary[ binIndex ];
+            magnitudesDb[ binIndex ] = 10.0d * FastMath.log10(
+                    ( realPart * realPart )
+                    + ( imaginaryPart * imaginaryPart ) );
+        }
+    }
+
+    /**
+     * Writes the phase of each bin, in degrees from -180 to +180, into
+     * caller-owned output.
+     *
+     * @param phasesDegrees The caller-owned output, with at least as many bins
+     *                      as this spectrum
+     */
+    public void getPhasesDegrees( final double[] phasesDegrees ) {
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            phasesDegrees[ binIndex ] = FastMath.toDegrees( FastMath.atan2(
+                    imaginary[ binIndex ], real[ binIndex ] ) );
+        }
+    }
+
+    // Convert real and imaginary parts to magnitude (in decibels) and phase
+    // (in degrees), in place, for evaluators that stage complex responses in
+    // the caller's magnitude and phase arrays so as to need no workspace.
+    static void convertToMagnitudeAndPhase( final double[] realToMagnitudesDb,
+                                            final double[] imaginaryToPhasesDegrees,
+                                            final int numberOfBins ) {
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double realPart = realToMagnitudesDb[ binIndex ];
+            final double imaginaryPart = imaginaryToPhasesDegrees[ binIndex ];
+            realToMagnitudesDb[ binIndex ] = 10.0d * FastMath.log10(
+                    ( realPart * realPart )
+                    + ( imaginaryPart * imaginaryPart ) );
+            imaginaryToPhasesDegrees[ binIndex ] = FastMath.toDegrees(
+                    FastMath.atan2( imaginaryPart, realPart ) );
+        }
+    }
+
+    /**
+     * Multiplies this spectrum by another, bin by bin.
+     *
+     * @param multiplier The spectrum to multiply this one by
+     * @param product The caller-owned spectrum for the product, which may be
+     *                either of the operands
+     */
+    public void multiply( final ComplexSpectrum multiplier,
+                          final ComplexSpectrum product ) {
+        final double[] multiplierReal = multiplier.real;
+        final double[] multiplierImaginary = multiplier.imaginary;
+        final double[] productReal = product.real;
+        final double[] productImaginary = product.imaginary;
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double a = real[ binIndex ];
+            final double b = imaginary[ binIndex ];
+            final double c = multiplierReal[ binIndex ];
+            final double d = multiplierImaginary[ binIndex ];
+            productReal[ binIndex ] = ( a * c ) - ( b * d );
+            productImaginary[ binIndex ] = ( a * d ) + ( b * c );
+        }
+    }
+
+    /**
+     * Divides this spectrum by another, bin by bin.
+     * <p>
+     * This uses Smith's algorithm, as does {@link Complex#divide}, to avoid
+     * premature overflow and underflow. Division by zero gives NaN's.
+     *
+     * @param divisor The spectrum to divide this one by
+     * @param quotient The caller-owned spectrum for the quotient, which may be
+     *                 either of the operands
+     */
+    public void divide( final ComplexSpectrum divisor,
+                        final ComplexSpectrum quotient ) {
+        final double[] divisorReal = divisor.real;
+        final double[] divisorImaginary = divisor.imaginary;
+        final double[] quotientReal = quotient.real;
+        final double[] quotientImaginary = quotient.imaginary;
+
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            divide( real[ binIndex ],
+                    imaginary[ binIndex ],
+                    divisorReal[ binIndex ],
+                    divisorImaginary[ binIndex ],
+                    quotientReal,
+                    quotientImaginary,
+                    binIndex );
+        }
+    }
+
+    // Divide two complex values by Smith's algorithm, writing the quotient to
+    // the given bin of the output arrays.
+    static void divide( final double a,
+                        final double b,
+                        final double c,
+                        final double d,
+                        final double[] quotientReal,
+                        final double[] quotientImaginary,
+                        final int binIndex ) {
+        if ( FastMath.abs( c ) < FastMath.abs( d ) ) {
+            final double ratio = c / d;
+            final double denominator = ( c * ratio ) + d;
+            quotientReal[ binIndex ] = ( ( a * ratio ) + b ) / denominator;
+            quotientImaginary[ binIndex ] = ( ( b * ratio ) - a )
+                                            / denominator;
+        }
+        else {
+            final double ratio = d / c;
+            final double denominator = ( d * ratio ) + c;
+            quotientReal[ binIndex ] = ( ( b * ratio ) + a ) / denominator;
+            quotientImaginary[ binIndex ] = ( b - ( a * ratio ) )
+                                            / denominator;
+        }
+    }
+
+    /**
+     * Writes the complex conjugate of this spectrum.
+     *
+     * @param conjugate The caller-owned spectrum for the conjugate, which may
+     *                  be this spectrum
+     */
+    public void conjugate( final ComplexSpectrum conjugate ) {
+        final double[] conjugateImaginary = conjugate.imaginary;
+        System.arraycopy( real, 0, conjugate.real, 0, numberOfBins );
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            conjugateImaginary[ binIndex ] = -imaginary[ binIndex ];
+        }
+    }
+
+    /**
+     * Scales this spectrum by a real factor.
+     *
+     * @param factor The real factor to scale this spectrum by
+     * @param scaled The caller-owned spectrum for the scaled result, which may
+     *               be this spectrum
+     */
+    public void scale( final double factor,
+                       final ComplexSpectrum scaled ) {
+        final double[] scaledReal = scaled.real;
+        final double[] scaledImaginary = scaled.imaginary;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            scaledReal[ binIndex ] = factor * real[ binIndex ];
+            scaledImaginary[ binIndex ] = factor * imaginary[ binIndex ];
+        }
+    }
+}
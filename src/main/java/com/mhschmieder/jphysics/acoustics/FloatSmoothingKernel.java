@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+/**
+ * An immutable single-precision smoothing kernel, with the same row layout as
+ * a {@link SmoothingKernel} but with its weights stored as floats.
+ * <p>
+ * This halves the memory footprint of the weights, which dominate the size of
+ * a kernel, and is intended for memory-bound workloads such as reprocessing
+ * large archives of single-precision spectra. The row layout arrays are
+ * shared with the double-precision kernel that this one is derived from, as
+ * neither kernel ever modifies them.
+ * <p>
+ * Each weight differs from its double-precision counterpart by no more than
+ * one part in 2^24, and smoothing accumulates in double precision, so a
+ * smoothed bin differs from the double-precision result for the same input by
+ * no more than about 1.2E-7 of the kernel's weighted sum of absolute input
+ * values plus the final rounding to a float; for spectra in decibels, this is
+ * well below 0.0001 dB.
+ * <p>
+ * Kernels are narrowed from a {@link SmoothingKernel} via
+ * {@link SmoothingUtilities#makeFloatSmoothingKernel}, and are shared in the
+ * same way as the kernel they were narrowed from.
+ */
+public final class FloatSmoothingKernel {
+
+    // The number of output bins (rows) covered by this kernel.
+    final int numberOfBins;
+
+    // The index of the first input bin covered by each row.
+    final int[] firstBinIndices;
+
+    // The start offset of each row within the flat weights array.
+    final int[] tapOffsets;
+
+    // The number of taps (i.e. contiguous input bins) for each row.
+    final int[] numberOfTaps;
+
+    // The normalized weights for all rows, stored back to back.
+    final float[] weights;
+
+    /**
+     * Constructs a single-precision smoothing kernel from a double-precision
+     * smoothing kernel, sharing its row layout and rounding its weights.
+     *
+     * @param smoothingKernel The double-precision smoothing kernel to derive
+     *                        this kernel from
+     */
+    FloatSmoothingKernel( final SmoothingKernel smoothingKernel ) {
+        numberOfBins = smoothingKernel.numberOfBins;
+        firstBinIndices = smoothingKernel.firstBinIndices;
+        tapOffsets = smoothingKernel.tapOffsets;
+        numberOfTaps = smoothingKernel.numberOfTaps;
+
+        final double[] doubleWeights = smoothingKernel.weights;
+        weights = new float[ doubleWeights.length ];
+        for ( int tapIndex = 0; tapIndex < doubleWeights.length; tapIndex++ ) {
+            weights[ tapIndex ] = ( float ) doubleWeights[ tapIndex ];
+        }
+    }
+
+    /**
+     * Returns the number of output bins (rows) covered by this kernel.
+     *
+     * @return The number of output bins covered by this kernel
+     */
+    public int getNumberOfBins() {
+        return numberOfBins;
+    }
+
+    /**
+     * Returns the index of the first input bin that contributes to the given
+     * output bin.
+     *
+     * @param binIndex The index of the output bin
+     * @return The index of the first input bin in the output bin's window
+     */
+    public int getFirstBinIndex( final int binIndex ) {
+        return firstBinIndices[ binIndex ];
+    }
+
+    /**
+     * Returns the number of taps (contiguous input bins) that contribute to
+     * the given output bin.
+     *
+     * @param binIndex The index of the output bin
+     * @return The number of taps in the output bin's window
+     */
+    public int getNumberOfTaps( final int binIndex ) {
+        return numberOfTaps[ binIndex ];
+    }
+
+    /**
+     * Returns the normalized weight of a single tap of the given output bin.
+     *
+     * @param binIndex The index of the output bin
+     * @param tapIndex The index of the tap, relative to the first input bin
+     * @return The normalized weight of the requested tap
+     */
+    public float getWeight( final int binIndex,
+                            final int tapIndex ) {
+        return weights[ tapOffsets[ binIndex ] + tapIndex ];
+    }
+
+    /**
+     * Returns the total number of taps across all rows, which is a direct
+     * measure of both the memory footprint and the cost of one smoothing pass.
+     *
+     * @return The total number of taps across all rows of this kernel
+     */
+    public int getTotalNumberOfTaps() {
+        return weights.length;
+    }
+}
@@ -0,0 +1,542 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import org.apache.commons.math3.util.FastMath;
+
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A locale-aware formatter and parser for frequency labels such as "800 Hz"
+ * and "1.25 kHz", which holds no mutable state and so may safely be shared
+ * across threads.
+ * <p>
+ * Unlike {@link FrequencySignalUtilities#getFormattedFrequency}, this doesn't
+ * modify a caller's {@link NumberFormat}, and it can append labels to a
+ * caller-owned {@link StringBuilder} and parse labels directly from any
+ * {@link CharSequence}, without creating intermediate Strings. The labels for
+ * the standard nominal center frequencies are formatted once, at construction
+ * time, and are returned as-is thereafter, as these are by far the most common
+ * labels on frequency axes.
+ * <p>
+ * Frequencies below one kilohertz are formatted in Hertz, and the rest in
+ * kilohertz, each with up to a given number of fraction digits; trailing zeros
+ * are dropped. Rounding is half-even, as for {@link NumberFormat}.
+ */
+public final class FrequencyFormat {
+
+    // The default number of fraction digits for frequencies in Hertz, to
+    // cover normal spacing of low to mid-range frequencies.
+    public static final int HERTZ_FRACTION_DIGITS_DEFAULT = 1;
+
+    // The default number of fraction digits for frequencies in kilohertz, to
+    // cover the kilohertz scaling.
+    public static final int KILOHERTZ_FRACTION_DIGITS_DEFAULT = 4;
+
+    // The frequency at and above which labels are in kilohertz.
+    private static final double KILOHERTZ_THRESHOLD = 1000.0d;
+
+    // The units, with their leading separator, for formatting.
+    private static final String HERTZ_SUFFIX = " Hz";
+    private static final String KILOHERTZ_SUFFIX = " kHz";
+
+    // The largest scaled magnitude that can be formatted from a long, beyond
+    // which formatting falls back to a private number format.
+    private static final double MAXIMUM_SCALED_MAGNITUDE = 1.0E17d;
+
+    // The largest mantissa that converts exactly to a double, and the largest
+    // power of ten that is exact as a double, which together bound the fast
+    // path for parsing.
+    private static final long MAXIMUM_EXACT_MANTISSA = 1L << 53;
+    private static final int MAXIMUM_EXACT_POWER_OF_TEN = 22;
+
+    // Powers of ten that are exact as doubles.
+    private static final double[] POWERS_OF_TEN
+            = new double[ MAXIMUM_EXACT_POWER_OF_TEN + 1 ];
+    static {
+        POWERS_OF_TEN[ 0 ] = 1.0d;
+        for ( int exponent = 1; exponent < POWERS_OF_TEN.length; exponent++ ) {
+            POWERS_OF_TEN[ exponent ] = 10.0d * POWERS_OF_TEN[ exponent - 1 ];
+        }
+    }
+
+    // The locale for the number symbols.
+    private final Locale locale;
+
+    // The number symbols for the locale.
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final char minusSign;
+    private final String notANumber;
+    private final String infinity;
+
+    // The maximum number of fraction digits in Hertz and in kilohertz.
+    private final int hertzFractionDigits;
+    private final int kilohertzFractionDigits;
+
+    // The standard nominal center frequencies in ascending order, and their
+    // pre-formatted labels.
+    private final double[] nominalFrequencies;
+    private final String[] nominalFrequencyLabels;
+
+    /**
+     * Constructs a frequency format for the default locale, with the default
+     * number of fraction digits.
+     */
+    public FrequencyFormat() {
+        this( Locale.getDefault( Locale.Category.FORMAT ) );
+    }
+
+    /**
+     * Constructs a frequency format for the given locale, with the default
+     * number of fraction digits.
+     *
+     * @param pLocale The locale for the number symbols
+     */
+    public FrequencyFormat( final Locale pLocale ) {
+        this( pLocale,
+              HERTZ_FRACTION_DIGITS_DEFAULT,
+              KILOHERTZ_FRACTION_DIGITS_DEFAULT );
+    }
+
+    /**
+     * Constructs a frequency format for the given locale.
+     *
+     * @param pLocale The locale for the number symbols
+     * @param pHertzFractionDigits The maximum number of fraction digits for
+     *                             frequencies in Hertz
+     * @param pKilohertzFractionDigits The maximum number of fraction digits
+     *                                 for frequencies in kilohertz
+     */
+    public FrequencyFormat( final Locale pLocale,
+                            final int pHertzFractionDigits,
+                            final int pKilohertzFractionDigits ) {
+        if ( ( pHertzFractionDigits < 0 )
+                || ( pHertzFractionDigits > MAXIMUM_EXACT_POWER_OF_TEN )
+                || ( pKilohertzFractionDigits < 0 )
+                || ( pKilohertzFractionDigits > MAXIMUM_EXACT_POWER_OF_TEN ) ) {
+            throw new IllegalArgumentException(
+                    "Number of fraction digits is out of range" );
+        }
+
+        locale = pLocale;
+
+        final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(
+                pLocale );
+        decimalSeparator = symbols.getDecimalSeparator();
+        groupingSeparator = symbols.getGroupingSeparator();
+        minusSign = symbols.getMinusSign();
+        notANumber = symbols.getNaN();
+        infinity = symbols.getInfinity();
+
+        hertzFractionDigits = pHertzFractionDigits;
+        kilohertzFractionDigits = pKilohertzFractionDigits;
+
+        // Gather the distinct nominal center frequencies, and format each of
+        // them once, up front.
+        final double[] frequencies = new double[
+                CenterFrequencies.NOMINAL_FULL_OCTAVE_CENTER_FREQUENCIES.length
+                + CenterFrequencies.NOMINAL_THIRD_OCTAVE_CENTER_FREQUENCIES.length ];
+        int numberOfFrequencies = 0;
+        for ( final double frequency
+                : CenterFrequencies.NOMINAL_FULL_OCTAVE_CENTER_FREQUENCIES ) {
+            if ( !Double.isNaN( frequency ) ) {
+                frequencies[ numberOfFrequencies++ ] = frequency;
+            }
+        }
+        for ( final double frequency
+                : CenterFrequencies.NOMINAL_THIRD_OCTAVE_CENTER_FREQUENCIES ) {
+            if ( !Double.isNaN( frequency ) ) {
+                frequencies[ numberOfFrequencies++ ] = frequency;
+            }
+        }
+        Arrays.sort( frequencies, 0, numberOfFrequencies );
+
+        int numberOfDistinctFrequencies = 0;
+        for ( int index = 0; index < numberOfFrequencies; index++ ) {
+            if ( ( numberOfDistinctFrequencies == 0 )
+                    || ( frequencies[ index ]
+                         != frequencies[ numberOfDistinctFrequencies - 1 ] ) ) {
+                frequencies[ numberOfDistinctFrequencies++ ]
+                        = frequencies[ index ];
+            }
+        }
+
+        nominalFrequencies = Arrays.copyOf( frequencies,
+                                            numberOfDistinctFrequencies );
+        nominalFrequencyLabels = new String[ numberOfDistinctFrequencies ];
+        final StringBuilder label = new StringBuilder();
+        for ( int index = 0; index < numberOfDistinctFrequencies; index++ ) {
+            label.setLength( 0 );
+            appendFrequency( label, nominalFrequencies[ index ] );
+            nominalFrequencyLabels[ index ] = label.toString();
+        }
+    }
+
+    /**
+     * Returns the locale for the number symbols of this format.
+     *
+     * @return The locale for the number symbols of this format
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Formats a frequency as a label, such as "800 Hz" or "1.25 kHz".
+     * <p>
+     * The labels for standard nominal center frequencies are pre-formatted,
+     * so are returned without creating a new String.
+     *
+     * @param frequency The frequency (in Hertz) to format
+     * @return The label for the frequency
+     */
+    public String format( final double frequency ) {
+        final int nominalIndex = Arrays.binarySearch( nominalFrequencies,
+                                                      frequency );
+        if ( nominalIndex >= 0 ) {
+            return nominalFrequencyLabels[ nominalIndex ];
+        }
+
+        final StringBuilder label = new StringBuilder( 16 );
+        appendFrequency( label, frequency );
+        return label.toString();
+    }
+
+    /**
+     * Appends the label for a frequency, such as "800 Hz" or "1.25 kHz", to a
+     * caller-owned string builder, so that nothing is allocated per call once
+     * the builder has grown to fit.
+     *
+     * @param stringBuilder The caller-owned string builder to append to
+     * @param frequency The frequency (in Hertz) to format
+     * @return The supplied string builder, for chaining
+     */
+    public StringBuilder format( final StringBuilder stringBuilder,
+                                 final double frequency ) {
+        final int nominalIndex = Arrays.binarySearch( nominalFrequencies,
+                                                      frequency );
+        if ( nominalIndex >= 0 ) {
+            return stringBuilder.append( nominalFrequencyLabels[ nominalIndex ] );
+        }
+
+        appendFrequency( stringBuilder, frequency );
+        return stringBuilder;
+    }
+
+    // Append the label for a frequency, without using the nominal labels.
+    private void appendFrequency( final StringBuilder stringBuilder,
+                                  final double frequency ) {
+        if ( frequency < KILOHERTZ_THRESHOLD ) {
+            appendNumber( stringBuilder, frequency, hertzFractionDigits );
+            stringBuilder.append( HERTZ_SUFFIX );
+        }
+        else {
+            appendNumber( stringBuilder,
+                          0.001d * frequency,
+                          kilohertzFractionDigits );
+            stringBuilder.append( KILOHERTZ_SUFFIX );
+        }
+    }
+
+    // Append a number with up to the given number of fraction digits, using
+    // the locale's symbols and grouping the integer digits by thousands.
+    private void appendNumber( final StringBuilder stringBuilder,
+                               final double number,
+                               final int fractionDigits ) {
+        if ( Double.isNaN( number ) ) {
+            stringBuilder.append( notANumber );
+            return;
+        }
+
+        final boolean negative = number < 0.0d;
+        final double magnitude = FastMath.abs( number );
+        if ( Double.isInfinite( magnitude ) ) {
+            if ( negative ) {
+                stringBuilder.append( minusSign );
+            }
+            stringBuilder.append( infinity );
+            return;
+        }
+
+        // NOTE: The scaling can round an inexact product onto an apparent
+        //  tie, in which case its exact residual tells which way to round, so
+        //  that only true ties are rounded half-even.
+        final double fractionScale = POWERS_OF_TEN[ fractionDigits ];
+        final double scaledProduct = magnitude * fractionScale;
+        double scaledMagnitude = FastMath.rint( scaledProduct );
+        if ( FastMath.abs( scaledProduct - scaledMagnitude ) == 0.5d ) {
+            final double residual = Math.fma( magnitude,
+                                              fractionScale,
+                                              -scaledProduct );
+            if ( residual > 0.0d ) {
+                scaledMagnitude = FastMath.ceil( scaledProduct );
+            }
+            else if ( residual < 0.0d ) {
+                scaledMagnitude = FastMath.floor( scaledProduct );
+            }
+        }
+        if ( scaledMagnitude >= MAXIMUM_SCALED_MAGNITUDE ) {
+            // NOTE: This is far beyond any frequency of interest, so we don't
+            //  mind the cost of a private number format here.
+            final NumberFormat numberFormat = NumberFormat.getNumberInstance(
+                    locale );
+            numberFormat.setMinimumFractionDigits( 0 );
+            numberFormat.setMaximumFractionDigits( fractionDigits );
+            stringBuilder.append( numberFormat.format( number ) );
+            return;
+        }
+
+        final long scaledDigits = ( long ) scaledMagnitude;
+        final long fractionDivisor = ( long ) fractionScale;
+        final long integerPart = scaledDigits / fractionDivisor;
+        long fractionPart = scaledDigits % fractionDivisor;
+
+        if ( negative && ( scaledDigits != 0L ) ) {
+            stringBuilder.append( minusSign );
+        }
+
+        appendGroupedInteger( stringBuilder, integerPart );
+
+        if ( fractionPart != 0L ) {
+            // Drop the trailing zeros, then pad any leading zeros.
+            int numberOfDigits = fractionDigits;
+            while ( ( fractionPart % 10L ) == 0L ) {
+                fractionPart /= 10L;
+                numberOfDigits--;
+            }
+
+            stringBuilder.append( decimalSeparator );
+            long digitDivisor = ( long ) POWERS_OF_TEN[ numberOfDigits - 1 ];
+            while ( digitDivisor > 0L ) {
+                stringBuilder.append( ( char ) ( '0' + ( fractionPart
+                                                         / digitDivisor ) ) );
+                fractionPart %= digitDivisor;
+                digitDivisor /= 10L;
+            }
+        }
+    }
+
+    // Append a non-negative integer, grouping its digits by thousands.
+    private void appendGroupedInteger( final StringBuilder stringBuilder,
+                                       final long integer ) {
+        long digitDivisor = 1L;
+        int numberOfDigits = 1;
+        while ( ( integer / digitDivisor ) >= 10L ) {
+            digitDivisor *= 10L;
+            numberOfDigits++;
+        }
+
+        long remainder = integer;
+        while ( digitDivisor > 0L ) {
+            stringBuilder.append( ( char ) ( '0' + ( remainder
+                                                     / digitDivisor ) ) );
+            remainder %= digitDivisor;
+            digitDivisor /= 10L;
+            numberOfDigits--;
+            if ( ( numberOfDigits > 0 ) && ( ( numberOfDigits % 3 ) == 0 ) ) {
+                stringBuilder.append( groupingSeparator );
+            }
+        }
+    }
+
+    /**
+     * Parses a frequency label, such as "1.25 kHz", "800Hz" or "63", where a
+     * number without units is taken to be in Hertz.
+     *
+     * @param text The text to parse
+     * @return The frequency (in Hertz), or {@code NaN} if the text is not a
+     *         valid frequency label
+     */
+    public double parse( final CharSequence text ) {
+        return parse( text, 0, text.length() );
+    }
+
+    /**
+     * Parses a frequency label from a range of characters, such as a field of
+     * a line of a text file, without creating an intermediate String.
+     * <p>
+     * Leading and trailing whitespace is ignored, as is any whitespace between
+     * the number and its units. The number uses the locale's decimal separator
+     * and may use its grouping separator; the units, if present, are "Hz" or
+     * "kHz", and a number without units is taken to be in Hertz.
+     *
+     * @param text The text holding the frequency label
+     * @param startIndex The index of the first character of the label
+     * @param endIndex The index after the last character of the label
+     * @return The frequency (in Hertz), or {@code NaN} if the range is not a
+     *         valid frequency label
+     */
+    public double parse( final CharSequence text,
+                         final int startIndex,
+                         final int endIndex ) {
+        int index = skipWhitespace( text, startIndex, endIndex );
+
+        boolean negative = false;
+        if ( ( index < endIndex ) && ( ( text.charAt( index ) == minusSign )
+                || ( text.charAt( index ) == '-' ) ) ) {
+            negative = true;
+            index++;
+        }
+
+        // Accumulate the significant digits into a mantissa, counting the
+        // fraction digits and any digits dropped for lack of precision.
+        final int numberStartIndex = index;
+        long mantissa = 0L;
+        int decimalExponent = 0;
+        int numberOfDigits = 0;
+        boolean inFraction = false;
+        boolean exact = true;
+        while ( index < endIndex ) {
+            final char character = text.charAt( index );
+            if ( ( character >= '0' ) && ( character <= '9' ) ) {
+                // NOTE: The mantissa can't overflow here, as it is at most
+                //  2^53 before being scaled up by ten.
+                final long scaledMantissa = ( 10L * mantissa )
+                                            + ( character - '0' );
+                if ( exact && ( scaledMantissa <= MAXIMUM_EXACT_MANTISSA ) ) {
+                    mantissa = scaledMantissa;
+                    if ( inFraction ) {
+                        decimalExponent--;
+                    }
+                }
+                else {
+                    exact = false;
+                }
+                numberOfDigits++;
+            }
+            else if ( ( character == decimalSeparator ) && !inFraction ) {
+                inFraction = true;
+            }
+            else if ( ( character == groupingSeparator ) && !inFraction ) {
+                // Grouping separators are allowed but carry no value.
+            }
+            else {
+                break;
+            }
+            index++;
+        }
+        final int numberEndIndex = index;
+
+        if ( numberOfDigits == 0 ) {
+            return Double.NaN;
+        }
+
+        // Parse the units, if any.
+        double unitScale = 1.0d;
+        index = skipWhitespace( text, index, endIndex );
+        if ( regionMatches( text, index, endIndex, "kHz" ) ) {
+            unitScale = 1000.0d;
+            index += 3;
+        }
+        else if ( regionMatches( text, index, endIndex, "Hz" ) ) {
+            index += 2;
+        }
+        index = skipWhitespace( text, index, endIndex );
+        if ( index != endIndex ) {
+            return Double.NaN;
+        }
+
+        // Take the fast path when both the mantissa and the power of ten are
+        // exact as doubles, as a single division then rounds correctly.
+        double number;
+        if ( exact && ( -decimalExponent <= MAXIMUM_EXACT_POWER_OF_TEN ) ) {
+            number = mantissa / POWERS_OF_TEN[ -decimalExponent ];
+        }
+        else {
+            number = parseSlowly( text, numberStartIndex, numberEndIndex );
+        }
+
+        if ( negative ) {
+            number = -number;
+        }
+
+        return number * unitScale;
+    }
+
+    // Parse a number that has too many digits for the fast path, by removing
+    // the grouping separators and normalizing the decimal separator.
+    // NOTE: This is only needed for numbers with more than fifteen or so
+    //  significant digits, which are never seen in frequency labels.
+    private double parseSlowly( final CharSequence text,
+                                final int startIndex,
+                                final int endIndex ) {
+        final StringBuilder number = new StringBuilder( endIndex - startIndex );
+        for ( int index = startIndex; index < endIndex; index++ ) {
+            final char character = text.charAt( index );
+            if ( character == decimalSeparator ) {
+                number.append( '.' );
+            }
+            else if ( character != groupingSeparator ) {
+                number.append( character );
+            }
+        }
+
+        return Double.parseDouble( number.toString() );
+    }
+
+    // Skip whitespace, including no-break spaces, which some locales use for
+    // grouping and which may separate a number from its units.
+    private static int skipWhitespace( final CharSequence text,
+                                       final int startIndex,
+                                       final int endIndex ) {
+        int index = startIndex;
+        while ( ( index < endIndex ) && ( Character.isWhitespace(
+                text.charAt( index ) ) || Character.isSpaceChar(
+                text.charAt( index ) ) ) ) {
+            index++;
+        }
+
+        return index;
+    }
+
+    // Check whether the text at the given index starts with the given units.
+    private static boolean regionMatches( final CharSequence text,
+                                          final int index,
+                                          final int endIndex,
+                                          final String units ) {
+        final int unitsLength = units.length();
+        if ( ( endIndex - index ) < unitsLength ) {
+            return false;
+        }
+
+        for ( int offset = 0; offset < unitsLength; offset++ ) {
+            if ( text.charAt( index + offset ) != units.charAt( offset ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import com.mhschmieder.jmath.MathConstants;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+
+/**
+ * An immutable grid of frequency bins, which computes data derived from the
+ * bins on first use and caches it for the life of the grid.
+ * <p>
+ * Routines that take a raw array of frequency bins have to recompute derived
+ * data such as the natural log of every bin on each call, whereas a grid that
+ * is shared by many spectra computes it just once. The derived data comprises
+ * the natural log of each bin, the width of each bin, the spacing of the
+ * bins, and a fingerprint that makes a cheap first test of equality.
+ * <p>
+ * Grids may safely be shared across threads. The derived data is published
+ * via volatile fields; two threads that need the same data at the same time
+ * may both compute it, but as they compute identical values, either result
+ * may be kept.
+ */
+public final class FrequencyGrid {
+
+    // The tolerance for deeming bins to be evenly spaced, as a fraction of the
+    // average spacing, which allows for rounding in how the bins were made.
+    private static final double SPACING_TOLERANCE = 1.0E-6d;
+
+    // The frequency (in Hertz) of each bin, in ascending order.
+    final double[] frequencyBins;
+
+    // The number of bins in this grid.
+    private final int numberOfBins;
+
+    // The natural log of each bin, computed on first use.
+    private volatile double[] lnFrequencyBins;
+
+    // The width (in Hertz) of each bin, computed on first use.
+    private volatile double[] binWidths;
+
+    // The spacing of the bins, computed on first use.
+    private volatile FrequencySpacing frequencySpacing;
+
+    // The fingerprint of the bins, computed on first use, and whether it has
+    // been computed yet (as any value is a valid fingerprint).
+    private volatile long fingerprint;
+    private volatile boolean fingerprintComputed;
+
+    /**
+     * Constructs a frequency grid from all of the supplied frequency bins.
+     *
+     * @param pFrequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                       order
+     */
+    public FrequencyGrid( final double[] pFrequencyBins ) {
+        this( pFrequencyBins, pFrequencyBins.length );
+    }
+
+    /**
+     * Constructs a frequency grid from the leading frequency bins of the
+     * supplied array, which are copied so that the grid remains immutable.
+     *
+     * @param pFrequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                       order
+     * @param pNumberOfBins The number of bins to include in the grid
+     */
+    public FrequencyGrid( final double[] pFrequencyBins,
+                          final int pNumberOfBins ) {
+        frequencyBins = Arrays.copyOf( pFrequencyBins, pNumberOfBins );
+        numberOfBins = pNumberOfBins;
+    }
+
+    /**
+     * Returns the number of bins in this grid.
+     *
+     * @return The number of bins in this grid
+     */
+    public int getNumberOfBins() {
+        return numberOfBins;
+    }
+
+    /**
+     * Returns the frequency of a single bin.
+     *
+     * @param binIndex The index of the bin
+     * @return The frequency (in Hertz) of the bin
+     */
+    public double getFrequencyBin( final int binIndex ) {
+        return frequencyBins[ binIndex ];
+    }
+
+    /**
+     * Returns a copy of the frequency bins, for use with routines that take
+     * a raw array of frequency bins.
+     *
+     * @return A copy of the frequency (in Hertz) of each bin
+     */
+    public double[] getFrequencyBins() {
+        return frequencyBins.clone();
+    }
+
+    /**
+     * Returns the natural log of a single bin.
+     *
+     * @param binIndex The index of the bin
+     * @return The natural log of the frequency (in Hertz) of the bin
+     */
+    public double getLnFrequencyBin( final int binIndex ) {
+        return getLnFrequencyBins()[ binIndex ];
+    }
+
+    // Get the natural log of every bin, computing it on first use.
+    // NOTE: The cached array is shared with package-level callers, which must
+    //  not modify it.
+    double[] getLnFrequencyBins() {
+        double[] lnBins = lnFrequencyBins;
+        if ( lnBins == null ) {
+            lnBins = new double[ numberOfBins ];
+            for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+                lnBins[ binIndex ] = FastMath.log( frequencyBins[ binIndex ] );
+            }
+            lnFrequencyBins = lnBins;
+        }
+
+        return lnBins;
+    }
+
+    /**
+     * Returns the width of a single bin, which spans from halfway to the
+     * previous bin up to halfway to the next bin; the first and last bins
+     * extend as far beyond the grid as they do into it.
+     *
+     * @param binIndex The index of the bin
+     * @return The width (in Hertz) of the bin, or zero for a single-bin grid
+     */
+    public double getBinWidth( final int binIndex ) {
+        return getBinWidths()[ binIndex ];
+    }
+
+    // Get the width of every bin, computing it on first use.
+    // NOTE: The cached array is shared with package-level callers, which must
+    //  not modify it.
+    double[] getBinWidths() {
+        double[] widths = binWidths;
+        if ( widths == null ) {
+            widths = new double[ numberOfBins ];
+            if ( numberOfBins > 1 ) {
+                final int lastBinIndex = numberOfBins - 1;
+                widths[ 0 ] = frequencyBins[ 1 ] - frequencyBins[ 0 ];
+                for ( int binIndex = 1; binIndex < lastBinIndex; binIndex++ ) {
+                    widths[ binIndex ] = 0.5d * ( frequencyBins[ binIndex + 1 ]
+                            - frequencyBins[ binIndex - 1 ] );
+                }
+                widths[ lastBinIndex ] = frequencyBins[ lastBinIndex ]
+                                         - frequencyBins[ lastBinIndex - 1 ];
+            }
+            binWidths = widths;
+        }
+
+        return widths;
+    }
+
+    /**
+     * Returns the spacing of the bins in this grid, which is linear if they
+     * are evenly spaced in frequency, fractional octave if they are evenly
+     * spaced in log frequency with a whole number of bins per octave,
+     * logarithmic if they are otherwise evenly spaced in log frequency, and
+     * arbitrary otherwise, including for grids of fewer than two bins.
+     *
+     * @return The spacing of the bins in this grid
+     */
+    public FrequencySpacing getFrequencySpacing() {
+        FrequencySpacing spacing = frequencySpacing;
+        if ( spacing == null ) {
+            spacing = computeFrequencySpacing();
+            frequencySpacing = spacing;
+        }
+
+        return spacing;
+    }
+
+    private FrequencySpacing computeFrequencySpacing() {
+        if ( numberOfBins < 2 ) {
+            return FrequencySpacing.ARBITRARY;
+        }
+
+        if ( isEvenlySpaced( frequencyBins ) ) {
+            return FrequencySpacing.LINEAR;
+        }
+
+        if ( !( frequencyBins[ 0 ] > 0.0d ) ) {
+            return FrequencySpacing.ARBITRARY;
+        }
+
+        final double[] lnBins = getLnFrequencyBins();
+        if ( !isEvenlySpaced( lnBins ) ) {
+            return FrequencySpacing.ARBITRARY;
+        }
+
+        final double binsPerOctave = MathConstants.LN2
+                * ( numberOfBins - 1 )
+                / ( lnBins[ numberOfBins - 1 ] - lnBins[ 0 ] );
+        final double roundedBinsPerOctave = FastMath.rint( binsPerOctave );
+        return ( ( roundedBinsPerOctave >= 1.0d ) && ( FastMath.abs(
+                binsPerOctave - roundedBinsPerOctave )
+                <= ( SPACING_TOLERANCE * binsPerOctave ) ) )
+               ? FrequencySpacing.FRACTIONAL_OCTAVE
+               : FrequencySpacing.LOGARITHMIC;
+    }
+
+    // Check whether the values are strictly ascending and each is within the
+    // spacing tolerance of where an even spacing from the first to the last
+    // value would place it.
+    private boolean isEvenlySpaced( final double[] values ) {
+        final double firstValue = values[ 0 ];
+        final double spacing = ( values[ numberOfBins - 1 ] - firstValue )
+                               / ( numberOfBins - 1 );
+        if ( !( spacing > 0.0d ) || Double.isInfinite( spacing ) ) {
+            return false;
+        }
+
+        final double tolerance = SPACING_TOLERANCE * spacing;
+        for ( int binIndex = 1; binIndex < numberOfBins; binIndex++ ) {
+            if ( !( FastMath.abs( values[ binIndex ] - firstValue
+                                  - ( binIndex * spacing ) ) <= tolerance ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a 64-bit fingerprint of the bins in this grid, which is the same
+     * for equal grids, and which is cheap to compare as a first test of
+     * equality, such as for cache keys.
+     *
+     * @return A 64-bit fingerprint of the bins in this grid
+     */
+    public long getFingerprint() {
+        if ( !fingerprintComputed ) {
+            fingerprint = SmoothingKernelCache.getFingerprint( frequencyBins,
+                                                               numberOfBins );
+            fingerprintComputed = true;
+        }
+
+        return fingerprint;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode( getFingerprint() );
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        if ( this == other ) {
+            return true;
+        }
+        if ( !( other instanceof FrequencyGrid ) ) {
+            return false;
+        }
+
+        final FrequencyGrid otherGrid = ( FrequencyGrid ) other;
+        return ( getFingerprint() == otherGrid.getFingerprint() )
+               && Arrays.equals( frequencyBins, otherGrid.frequencyBins );
+    }
+}
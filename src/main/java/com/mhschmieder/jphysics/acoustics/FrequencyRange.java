@@ -30,8 +30,8 @@
  */
 package com.mhschmieder.jphysics.acoustics;
 
-// TODO: Switch octave range to either an enumeration with supporting transforms
-// to presentation strings and lookup indices or to a direct lookup index.
+// NOTE: The octave range is held as its label, for compatibility with existing
+//  clients; OctaveRange maps labels to ranges and classifies frequencies.
 public final class FrequencyRange {
 
     public static final String RELATIVE_BANDWIDTH_DEFAULT
@@ -107,39 +107,7 @@ public final class FrequencyRange {
 
     public static String getNominalOctaveRangeDefaultForCenterFrequency( final double centerFrequency ) {
         // NOTE: We account for current offsets of ranges.
-        if ( centerFrequency < 19d ) {
-            return "10 Hz to 20 Hz";
-        }
-        else if ( centerFrequency < 39d ) {
-            return "20 Hz to 40 Hz";
-        }
-        else if ( centerFrequency < 78d ) {
-            return "40 Hz to 80 Hz";
-        }
-        else if ( centerFrequency < 156d ) {
-            return "80 Hz to 160 Hz";
-        }
-        else if ( centerFrequency < 312d ) {
-            return "160 Hz to 315 Hz";
-        }
-        else if ( centerFrequency < 624d ) {
-            return "315 Hz to 630 Hz";
-        }
-        else if ( centerFrequency < 1248d ) {
-            return "630 Hz to 1.25 kHz";
-        }
-        else if ( centerFrequency < 2496d ) {
-            return "1.25 kHz to 2.5 kHz";
-        }
-        else if ( centerFrequency < 4992d ) {
-            return "2.5 kHz to 5 kHz";
-        }
-        else if ( centerFrequency < 9986d ) {
-            return "5 kHz to 10 kHz";
-        }
-        else {
-            return "10 kHz to 20 kHz";
-        }
+        return OctaveRange.getNominalOctaveRange( centerFrequency ).label();
     }
 
     // Determine if the Center Frequency is within the given Octave Range.
@@ -149,59 +117,10 @@ public final class FrequencyRange {
         // NOTE: We have to special-case for the first and last Narrow Band
         // Octave Ranges, as they extend beyond the single Wide Band Octave
         // Range and thus should cue a "closest match" vs. a default.
-        boolean frequencyInRange = false;
-
-        switch ( sOctaveRange ) {
-            case FrequencyRange.OCTAVE_RANGE_WIDE_DEFAULT:
-                frequencyInRange = true;
-                break;
-            case "10 Hz to 20 Hz":
-                frequencyInRange = centerFrequency < 19.0d;
-                break;
-            case "20 Hz to 40 Hz":
-                frequencyInRange = ( centerFrequency >= 19.0d ) && (
-                        centerFrequency < 39.0d );
-                break;
-            case "40 Hz to 80 Hz":
-                frequencyInRange = ( centerFrequency >= 39.0d ) && (
-                        centerFrequency < 78.0d );
-                break;
-            case "80 Hz to 160 Hz":
-                frequencyInRange = ( centerFrequency >= 78d ) && (
-                        centerFrequency < 156d );
-                break;
-            case "160 Hz to 315 Hz":
-                frequencyInRange = ( centerFrequency >= 156.0d ) && (
-                        centerFrequency < 312.0d );
-                break;
-            case "315 Hz to 630 Hz":
-                frequencyInRange = ( centerFrequency >= 312.0d ) && (
-                        centerFrequency < 624.0d );
-                break;
-            case "630 Hz to 1.25 kHz":
-                frequencyInRange = ( centerFrequency >= 624.0d ) && (
-                        centerFrequency < 1248.0d );
-                break;
-            case "1.25 kHz to 2.5 kHz":
-                frequencyInRange = ( centerFrequency >= 1248.0d ) && (
-                        centerFrequency < 2496.0d );
-                break;
-            case "2.5 kHz to 5 kHz":
-                frequencyInRange = ( centerFrequency >= 2496.0d ) && (
-                        centerFrequency < 4992.0d );
-                break;
-            case "5 kHz to 10 kHz":
-                frequencyInRange = ( centerFrequency >= 4992.0d ) && (
-                        centerFrequency < 9986.0d );
-                break;
-            case "10 kHz to 20 kHz":
-                frequencyInRange = centerFrequency >= 9986.0d;
-                break;
-            default:
-                break;
-        }
-
-        return frequencyInRange;
+        final OctaveRange octaveRange = OctaveRange.getOctaveRangeFromLabel(
+                sOctaveRange );
+        return ( octaveRange != null )
+               && octaveRange.containsCenterFrequency( centerFrequency );
     }
 
     // NOTE: Cloning is disabled as it is dangerous; use the copy constructor
@@ -227,56 +146,11 @@ public final class FrequencyRange {
 
     public static double getNominalCenterFrequencyDefaultForOctaveRange( final String sOctaveRange,
                                                                          final boolean narrowBand ) {
-        double centerFrequencyDefault = 4000.0d;
-
-        switch ( sOctaveRange ) {
-            case FrequencyRange.OCTAVE_RANGE_WIDE_DEFAULT:
-                centerFrequencyDefault = 4000.0d;
-                break;
-            case "10 Hz to 20 Hz":
-                centerFrequencyDefault = narrowBand
-                                         ? 15.6d
-                                         : 16.0d;
-                break;
-            case "20 Hz to 40 Hz":
-                centerFrequencyDefault = narrowBand
-                                         ? 31.2d
-                                         : 31.5d;
-                break;
-            case "40 Hz to 80 Hz":
-                centerFrequencyDefault = narrowBand
-                                         ? 62.5d
-                                         : 63.0d;
-                break;
-            case "80 Hz to 160 Hz":
-                centerFrequencyDefault = 125.0d;
-                break;
-            case "160 Hz to 315 Hz":
-                centerFrequencyDefault = 250.0d;
-                break;
-            case "315 Hz to 630 Hz":
-                centerFrequencyDefault = 500.0d;
-                break;
-            case "630 Hz to 1.25 kHz":
-                centerFrequencyDefault = 1000.0d;
-                break;
-            case "1.25 kHz to 2.5 kHz":
-                centerFrequencyDefault = 2000.0d;
-                break;
-            case "2.5 kHz to 5 kHz":
-                centerFrequencyDefault = 4000.0d;
-                break;
-            case "5 kHz to 10 kHz":
-                centerFrequencyDefault = 8000.0d;
-                break;
-            case "10 kHz to 20 kHz":
-                centerFrequencyDefault = 16000.0d;
-                break;
-            default:
-                break;
-        }
-
-        return centerFrequencyDefault;
+        final OctaveRange octaveRange = OctaveRange.getOctaveRangeFromLabel(
+                sOctaveRange );
+        return ( octaveRange != null )
+               ? octaveRange.getNominalCenterFrequencyDefault( narrowBand )
+               : 4000.0d;
     }
 
     // Pseudo-copy constructor
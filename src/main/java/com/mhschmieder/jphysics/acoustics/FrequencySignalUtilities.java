@@ -54,6 +54,19 @@ public final class FrequencySignalUtilities {
     // See http://www.sengpielaudio.com/calculator-bandwidth.htm for details.
     public static final double OCTAVE_BANDWIDTH_TO_QUALITY_FACTOR_RATIO = 1.43d;
 
+    // The factors for converting decibels to linear magnitude and power via
+    // the natural exponential, which is cheaper than a power of ten.
+    static final double DECIBELS_TO_LN_MAGNITUDE = FastMath.log( 10.0d )
+                                                   / 20.0d;
+    static final double DECIBELS_TO_LN_POWER = FastMath.log( 10.0d ) / 10.0d;
+
+    // The number of decibels per doubling of magnitude and of power, for the
+    // approximate conversions, which work with base two logarithms.
+    private static final double DECIBELS_PER_LOG2_MAGNITUDE = 20.0d
+            * FastMath.log10( 2.0d );
+    private static final double DECIBELS_PER_LOG2_POWER = 10.0d
+            * FastMath.log10( 2.0d );
+
     /**
      * The default constructor is disabled, as this is a static utilities class
      */
@@ -110,6 +123,302 @@ public final class FrequencySignalUtilities {
         return FastMath.pow( 10.0d, powerRatioDb / 10.0d );
     }
 
+    // Convert an array of magnitudes from linear to decibels, clamping the
+    // results to a floor so that zero or negative magnitudes don't produce
+    // -Infinity (or NaN) and poison downstream math. NaN input is passed
+    // through, so that blanked bins stay blank. A floor of -Infinity disables
+    // the clamp for positive magnitudes.
+    // NOTE: The source and destination may be the same array, for in-place
+    //  conversion, but only with equal offsets or non-overlapping ranges.
+    public static void convertMagnitudesToDecibels( final double[] magnitudes,
+                                                    final int sourceOffset,
+                                                    final double[] magnitudesDb,
+                                                    final int destinationOffset,
+                                                    final int length,
+                                                    final double floorDb ) {
+        for ( int index = 0; index < length; index++ ) {
+            final double magnitude = magnitudes[ sourceOffset + index ];
+            magnitudesDb[ destinationOffset + index ] = ( magnitude <= 0.0d )
+                ? floorDb
+                : Math.max( 20.0d * FastMath.log10( magnitude ), floorDb );
+        }
+    }
+
+    // Convert a vector of magnitudes from linear to decibels, in place,
+    // clamping the results to a floor.
+    public static void convertMagnitudesToDecibels( final double[] frequencyMagnitudeData,
+                                                    final int numberOfBins,
+                                                    final double floorDb ) {
+        convertMagnitudesToDecibels( frequencyMagnitudeData,
+                                     0,
+                                     frequencyMagnitudeData,
+                                     0,
+                                     numberOfBins,
+                                     floorDb );
+    }
+
+    // Convert an array of power ratios from linear to decibels, clamping the
+    // results to a floor so that zero or negative power ratios don't produce
+    // -Infinity (or NaN) and poison downstream math. NaN input is passed
+    // through, so that blanked bins stay blank. A floor of -Infinity disables
+    // the clamp for positive power ratios.
+    // NOTE: The source and destination may be the same array, for in-place
+    //  conversion, but only with equal offsets or non-overlapping ranges.
+    public static void convertPowerRatiosToDecibels( final double[] powerRatios,
+                                                     final int sourceOffset,
+                                                     final double[] powerRatiosDb,
+                                                     final int destinationOffset,
+                                                     final int length,
+                                                     final double floorDb ) {
+        for ( int index = 0; index < length; index++ ) {
+            final double powerRatio = powerRatios[ sourceOffset + index ];
+            powerRatiosDb[ destinationOffset + index ] = ( powerRatio <= 0.0d )
+                ? floorDb
+                : Math.max( 10.0d * FastMath.log10( powerRatio ), floorDb );
+        }
+    }
+
+    // Convert a vector of power ratios from linear to decibels, in place,
+    // clamping the results to a floor.
+    public static void convertPowerRatiosToDecibels( final double[] frequencyPowerData,
+                                                     final int numberOfBins,
+                                                     final double floorDb ) {
+        convertPowerRatiosToDecibels( frequencyPowerData,
+                                      0,
+                                      frequencyPowerData,
+                                      0,
+                                      numberOfBins,
+                                      floorDb );
+    }
+
+    // Convert an array of magnitudes from decibels to linear.
+    // NOTE: This uses the natural exponential, which is cheaper than a power
+    //  of ten, so results may differ from the scalar method in the last bit.
+    // NOTE: The source and destination may be the same array, for in-place
+    //  conversion, but only with equal offsets or non-overlapping ranges.
+    public static void convertMagnitudesFromDecibels( final double[] magnitudesDb,
+                                                      final int sourceOffset,
+                                                      final double[] magnitudes,
+                                                      final int destinationOffset,
+                                                      final int length ) {
+        for ( int index = 0; index < length; index++ ) {
+            magnitudes[ destinationOffset + index ] = FastMath.exp(
+                    magnitudesDb[ sourceOffset + index ]
+                    * DECIBELS_TO_LN_MAGNITUDE );
+        }
+    }
+
+    // Convert a vector of magnitudes from decibels to linear, in place.
+    public static void convertMagnitudesFromDecibels( final double[] frequencyMagnitudeData,
+                                                      final int numberOfBins ) {
+        convertMagnitudesFromDecibels( frequencyMagnitudeData,
+                                       0,
+                                       frequencyMagnitudeData,
+                                       0,
+                                       numberOfBins );
+    }
+
+    // Convert an array of power ratios from decibels to linear.
+    // NOTE: This uses the natural exponential, which is cheaper than a power
+    //  of ten, so results may differ from the scalar method in the last bit.
+    // NOTE: The source and destination may be the same array, for in-place
+    //  conversion, but only with equal offsets or non-overlapping ranges.
+    public static void convertPowerRatiosFromDecibels( final double[] powerRatiosDb,
+                                                       final int sourceOffset,
+                                                       final double[] powerRatios,
+                                                       final int destinationOffset,
+                                                       final int length ) {
+        for ( int index = 0; index < length; index++ ) {
+            powerRatios[ destinationOffset + index ] = FastMath.exp(
+                    powerRatiosDb[ sourceOffset + index ]
+                    * DECIBELS_TO_LN_POWER );
+        }
+    }
+
+    // Convert a vector of power ratios from decibels to linear, in place.
+    public static void convertPowerRatiosFromDecibels( final double[] frequencyPowerData,
+                                                       final int numberOfBins ) {
+        convertPowerRatiosFromDecibels( frequencyPowerData,
+                                        0,
+                                        frequencyPowerData,
+                                        0,
+                                        numberOfBins );
+    }
+
+    // Get an array of voltage ratios (linear) from power ratios (decibels).
+    //
+    // This version of the method is for all but peaking and shelving filters.
+    //
+    // NOTE: The source and destination may be the same array, for in-place
+    //  conversion, but only with equal offsets or non-overlapping ranges.
+    public static void getVoltageRatios( final double[] powerRatiosDb,
+                                         final int sourceOffset,
+                                         final double[] voltageRatios,
+                                         final int destinationOffset,
+                                         final int length ) {
+        convertMagnitudesFromDecibels( powerRatiosDb,
+                                       sourceOffset,
+                                       voltageRatios,
+                                       destinationOffset,
+                                       length );
+    }
+
+    // Get a vector of voltage ratios (linear) from power ratios (decibels),
+    // in place.
+    public static void getVoltageRatios( final double[] gainData,
+                                         final int numberOfBins ) {
+        getVoltageRatios( gainData, 0, gainData, 0, numberOfBins );
+    }
+
+    // Convert magnitude from linear to decibels, approximately, for display
+    // purposes where speed matters more than the last few digits.
+    // NOTE: The result is within 2.0E-5 dB of the exact conversion for all
+    //  positive normal magnitudes; all other magnitudes are converted exactly.
+    public static double convertMagnitudeToDecibelsApproximate( final double magnitude ) {
+        return DECIBELS_PER_LOG2_MAGNITUDE * ApproximateMath.log2( magnitude );
+    }
+
+    // Convert the power ratio from linear to decibels, approximately, for
+    // display purposes where speed matters more than the last few digits.
+    // NOTE: The result is within 1.0E-5 dB of the exact conversion for all
+    //  positive normal power ratios; all other power ratios are converted
+    //  exactly.
+    public static double convertPowerRatioToDecibelsApproximate( final double powerRatio ) {
+        return DECIBELS_PER_LOG2_POWER * ApproximateMath.log2( powerRatio );
+    }
+
+    // Convert the magnitude from decibels to linear, approximately, for
+    // display purposes where speed matters more than the last few digits.
+    // NOTE: The result is within a relative error of 1.0E-6 (i.e. 1.0E-5 dB)
+    //  of the exact conversion, wherever the result is a normal double.
+    public static double convertMagnitudeFromDecibelsApproximate( final double magnitudeDb ) {
+        return ApproximateMath.exp2( magnitudeDb / DECIBELS_PER_LOG2_MAGNITUDE );
+    }
+
+    // Convert the power ratio from decibels to linear, approximately, for
+    // display purposes where speed matters more than the last few digits.
+    // NOTE: The result is within a relative error of 1.0E-6 (i.e. 1.0E-5 dB)
+    //  of the exact conversion, wherever the result is a normal double.
+    public static double convertPowerRatioFromDecibelsApproximate( final double powerRatioDb ) {
+        return ApproximateMath.exp2( powerRatioDb / DECIBELS_PER_LOG2_POWER );
+    }
+
+    // Convert an array of magnitudes from linear to decibels, approximately,
+    // clamping the results to a floor as for the exact conversion.
+    // NOTE: The source and destination may be the same array, for in-place
+    //  conversion, but only with equal offsets or non-overlapping ranges.
+    public static void convertMagnitudesToDecibelsApproximate( final double[] magnitudes,
+                                                               final int sourceOffset,
+                                                               final double[] magnitudesDb,
+                                                               final int destinationOffset,
+                                                               final int length,
+                                                               final double floorDb ) {
+        for ( int index = 0; index < length; index++ ) {
+            final double magnitude = magnitudes[ sourceOffset + index ];
+            magnitudesDb[ destinationOffset + index ] = ( magnitude <= 0.0d )
+                ? floorDb
+                : Math.max( convertMagnitudeToDecibelsApproximate( magnitude ),
+                            floorDb );
+        }
+    }
+
+    // Convert a vector of magnitudes from linear to decibels, approximately,
+    // in place, clamping the results to a floor.
+    public static void convertMagnitudesToDecibelsApproximate( final double[] frequencyMagnitudeData,
+                                                               final int numberOfBins,
+                                                               final double floorDb ) {
+        convertMagnitudesToDecibelsApproximate( frequencyMagnitudeData,
+                                                0,
+                                                frequencyMagnitudeData,
+                                                0,
+                                                numberOfBins,
+                                                floorDb );
+    }
+
+    // Convert an array of power ratios from linear to decibels, approximately,
+    // clamping the results to a floor as for the exact conversion.
+    // NOTE: The source and destination may be the same array, for in-place
+    //  conversion, but only with equal offsets or non-overlapping ranges.
+    public static void convertPowerRatiosToDecibelsApproximate( final double[] powerRatios,
+                                                                final int sourceOffset,
+                                                                final double[] powerRatiosDb,
+                                                                final int destinationOffset,
+                                                                final int length,
+                                                                final double floorDb ) {
+        for ( int index = 0; index < length; index++ ) {
+            final double powerRatio = powerRatios[ sourceOffset + index ];
+            powerRatiosDb[ destinationOffset + index ] = ( powerRatio <= 0.0d )
+                ? floorDb
+                : Math.max( convertPowerRatioToDecibelsApproximate( powerRatio ),
+                            floorDb );
+        }
+    }
+
+    // Convert a vector of power ratios from linear to decibels, approximately,
+    // in place, clamping the results to a floor.
+    public static void convertPowerRatiosToDecibelsApproximate( final double[] frequencyPowerData,
+                                                                final int numberOfBins,
+                                                                final double floorDb ) {
+        convertPowerRatiosToDecibelsApproximate( frequencyPowerData,
+                                                 0,
+                                                 frequencyPowerData,
+                                                 0,
+                                                 numberOfBins,
+                                                 floorDb );
+    }
+
+    // Convert an array of magnitudes from decibels to linear, approximately.
+    // NOTE: The source and destination may be the same array, for in-place
+    //  conversion, but only with equal offsets or non-overlapping ranges.
+    public static void convertMagnitudesFromDecibelsApproximate( final double[] magnitudesDb,
+                                                                 final int sourceOffset,
+                                                                 final double[] magnitudes,
+                                                                 final int destinationOffset,
+                                                                 final int length ) {
+        for ( int index = 0; index < length; index++ ) {
+            magnitudes[ destinationOffset + index ]
+                    = convertMagnitudeFromDecibelsApproximate(
+                            magnitudesDb[ sourceOffset + index ] );
+        }
+    }
+
+    // Convert a vector of magnitudes from decibels to linear, approximately,
+    // in place.
+    public static void convertMagnitudesFromDecibelsApproximate( final double[] frequencyMagnitudeData,
+                                                                 final int numberOfBins ) {
+        convertMagnitudesFromDecibelsApproximate( frequencyMagnitudeData,
+                                                  0,
+                                                  frequencyMagnitudeData,
+                                                  0,
+                                                  numberOfBins );
+    }
+
+    // Convert an array of power ratios from decibels to linear, approximately.
+    // NOTE: The source and destination may be the same array, for in-place
+    //  conversion, but only with equal offsets or non-overlapping ranges.
+    public static void convertPowerRatiosFromDecibelsApproximate( final double[] powerRatiosDb,
+                                                                  final int sourceOffset,
+                                                                  final double[] powerRatios,
+                                                                  final int destinationOffset,
+                                                                  final int length ) {
+        for ( int index = 0; index < length; index++ ) {
+            powerRatios[ destinationOffset + index ]
+                    = convertPowerRatioFromDecibelsApproximate(
+                            powerRatiosDb[ sourceOffset + index ] );
+        }
+    }
+
+    // Convert a vector of power ratios from decibels to linear, approximately,
+    // in place.
+    public static void convertPowerRatiosFromDecibelsApproximate( final double[] frequencyPowerData,
+                                                                  final int numberOfBins ) {
+        convertPowerRatiosFromDecibelsApproximate( frequencyPowerData,
+                                                   0,
+                                                   frequencyPowerData,
+                                                   0,
+                                                   numberOfBins );
+    }
+
     // Normalize a frequency phase vector to [-180, +180] range.
     // TODO: Determine whether this is any different from unwrapPhase().
     public static void normalizePhase( final double[] frequencyPhaseData,
@@ -197,9 +506,85 @@ public final class FrequencySignalUtilities {
         }
     }
 
+    // Post-process a frequency phase vector in a single pass, per the chosen
+    // phase wrapping mode, in place of separate passes to unwrap, normalize
+    // and clean up the phase. Each bin takes constant time, using modular
+    // arithmetic rather than loops that step by 360 degrees, so that wild
+    // phase data costs no more than well-behaved phase data.
+    public static void processPhase( final double[] frequencyPhaseData,
+                                     final int numberOfBins,
+                                     final PhaseWrapping phaseWrapping ) {
+        switch ( phaseWrapping ) {
+            case UNWRAP:
+                // Unwrap each bin to within 180 degrees of the last finite
+                // unwrapped phase, leaving any non-finite bins as they are so
+                // that a single bad bin doesn't spoil all the bins after it.
+                double referencePhase = Double.NaN;
+                for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+                    final double phase = frequencyPhaseData[ binIndex ];
+                    if ( !Double.isFinite( phase ) ) {
+                        continue;
+                    }
+                    if ( Double.isFinite( referencePhase ) ) {
+                        frequencyPhaseData[ binIndex ] = phase - ( 360.0d
+                                * FastMath.rint( ( phase - referencePhase )
+                                                 / 360.0d ) );
+                    }
+                    referencePhase = frequencyPhaseData[ binIndex ];
+                }
+                break;
+            case WRAP:
+                // Wrap to [-180, +180), then treat phase that is within
+                // rounding of +180 as -180, as that is the polarity reversal
+                // convention.
+                for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+                    final double phase = wrapPhase(
+                            frequencyPhaseData[ binIndex ] );
+                    frequencyPhaseData[ binIndex ] = ( phase > 179.9999d )
+                                                     ? -180.0d
+                                                     : phase;
+                }
+                break;
+            case DISPLAY:
+                // Wrap to [-180, +180), then set phase that is within rounding
+                // of the boundary to match the sign of the previous bin, to
+                // avoid constant flipping between -180 and +180, as this can
+                // cause anomalies in downstream charting clients that draw
+                // lines to connect neighboring data points. The first bin
+                // keeps its own sign, as it has no previous bin to match.
+                double previousPhase = ( numberOfBins > 0 )
+                                       ? frequencyPhaseData[ 0 ]
+                                       : 0.0d;
+                for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+                    double phase = wrapPhase( frequencyPhaseData[ binIndex ] );
+                    if ( ( phase > 179.9999d ) || ( phase < -179.9999d ) ) {
+                        phase = ( previousPhase <= 0.0d ) ? -180.0d : 180.0d;
+                    }
+                    frequencyPhaseData[ binIndex ] = phase;
+                    previousPhase = phase;
+                }
+                break;
+            default:
+                final String errMessage = "Unexpected "
+                                          + phaseWrapping.getClass()
+                                                         .getSimpleName()
+                                          + " " + phaseWrapping;
+                throw new IllegalArgumentException( errMessage );
+        }
+    }
+
+    // Wrap a single frequency phase value to the [-180, +180) range, in
+    // constant time no matter how far out of range the phase is.
+    public static double wrapPhase( final double frequencyPhase ) {
+        return frequencyPhase - ( 360.0d * FastMath.floor(
+                ( frequencyPhase + 180.0d ) / 360.0d ) );
+    }
+
     // Function to expand a potentially metric abbreviated frequency to its
     // complete specification, accounting for locale formatting, and with or
     // without a space between the number and the unit.
+    // NOTE: FrequencyFormat parses the same labels without creating any
+    //  intermediate Strings, and may safely be shared across threads.
     public static double expandMetricAbbreviatedFrequency( final String metricAbbreviatedFrequency,
                                                            final NumberFormat numberParse ) {
         // First note whether the string representation even includes units.
@@ -240,6 +625,8 @@ public final class FrequencySignalUtilities {
     // is the band number (M is the band number for 1000 Hz), and O is the
     // octave divider, but for simplicity's sake we refactor both M and O to be
     // in terms of third octave values.
+    // NOTE: CenterFrequencyTable holds these for every band of each Relative
+    //  Bandwidth, along with the band edges and nominal center frequencies.
     public static double getCenterFrequencyByBandNumber( final int bandNumber,
                                                          final double octaveDivider ) {
         final double octaveDividerRatio = octaveDivider / 3.0d;
@@ -252,52 +639,19 @@ public final class FrequencySignalUtilities {
                                        / octaveDivider );
     }
 
-    // TODO: Make an enumeration or indexed lookup of octave ranges, as they are
-    //  standard and not up for interpretation or product-specific assignments.
+    // Get the number of octaves that an octave range lies above the 10 Hz to
+    // 20 Hz range, or zero if the label isn't that of a known octave range.
     public static int getOctaveOffsetFrom10Hz( final String octaveRange ) {
-        int octaveOffset = 0;
-
-        switch ( octaveRange ) {
-            case "10 Hz to 20 Hz":
-                octaveOffset = 0;
-                break;
-            case "20 Hz to 40 Hz":
-                octaveOffset = 1;
-                break;
-            case "40 Hz to 80 Hz":
-                octaveOffset = 2;
-                break;
-            case "80 Hz to 160 Hz":
-                octaveOffset = 3;
-                break;
-            case "160 Hz to 315 Hz":
-                octaveOffset = 4;
-                break;
-            case "315 Hz to 630 Hz":
-                octaveOffset = 5;
-                break;
-            case "630 Hz to 1.25 kHz":
-                octaveOffset = 6;
-                break;
-            case "1.25 kHz to 2.5 kHz":
-                octaveOffset = 7;
-                break;
-            case "2.5 kHz to 5 kHz":
-                octaveOffset = 8;
-                break;
-            case "5 kHz to 10 kHz":
-                octaveOffset = 9;
-                break;
-            case "10 kHz to 20 kHz":
-                octaveOffset = 10;
-                break;
-            default:
-                break;
-        }
-
-        return octaveOffset;
+        final OctaveRange octaveRangeValue = OctaveRange
+                .getOctaveRangeFromLabel( octaveRange );
+        return ( octaveRangeValue != null )
+               ? octaveRangeValue.getOctaveOffsetFrom10Hz()
+               : 0;
     }
 
+    // NOTE: This modifies the supplied number format, so the format must not
+    //  be shared across threads; FrequencyFormat gives the same labels
+    //  without any shared mutable state.
     public static String getFormattedFrequency( final double frequency,
                                                 final NumberFormat numberFormat ) {
         String formattedFrequency = "";
@@ -340,6 +694,21 @@ public final class FrequencySignalUtilities {
         return new Complex( 0.0d, angularFrequencyRadians );
     }
 
+    // Convert an array of frequencies (in Hertz) to the s-Domain (analog),
+    // writing into a caller-owned complex spectrum rather than creating one
+    // complex object per frequency.
+    public static void convertFrequenciesToSDomain( final double[] frequenciesHz,
+                                                    final ComplexSpectrum sDomainValues ) {
+        final double[] real = sDomainValues.getReal();
+        final double[] imaginary = sDomainValues.getImaginary();
+        final int numberOfBins = sDomainValues.getNumberOfBins();
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            real[ binIndex ] = 0.0d;
+            imaginary[ binIndex ] = getAngularFrequencyRadians(
+                    frequenciesHz[ binIndex ] );
+        }
+    }
+
     // Get the angular frequency in radians based on the frequency in Hertz.
     public static double getAngularFrequencyRadians( final double frequencyHz ) {
         return MathConstants.TWO_PI * frequencyHz;
@@ -360,11 +729,50 @@ public final class FrequencySignalUtilities {
                                                          final boolean useLimitedFrequencyRange,
                                                          final double lowestFrequencyToDisplay,
                                                          final double highestFrequencyToDisplay ) {
+        final int[] displayableFrequencyRangeIndices = new int[ 2 ];
+        getClampedFrequencyRangeIndices( bins,
+                                         useLimitedFrequencyRange,
+                                         lowestFrequencyToDisplay,
+                                         highestFrequencyToDisplay,
+                                         displayableFrequencyRangeIndices );
+        return displayableFrequencyRangeIndices;
+    }
+
+    // Get the clamped frequency range indices into a caller-owned holder, so
+    // that nothing is allocated per call, such as on every chart redraw.
+    public static void getClampedFrequencyRangeIndices( final double[] bins,
+                                                        final boolean useLimitedFrequencyRange,
+                                                        final double lowestFrequencyToDisplay,
+                                                        final double highestFrequencyToDisplay,
+                                                        final int[] displayableFrequencyRangeIndices ) {
+        getClampedFrequencyRangeIndices( bins,
+                                         FrequencySpacing.ARBITRARY,
+                                         useLimitedFrequencyRange,
+                                         lowestFrequencyToDisplay,
+                                         highestFrequencyToDisplay,
+                                         displayableFrequencyRangeIndices );
+    }
+
+    // Get the clamped frequency range indices into a caller-owned holder,
+    // using the known spacing of the bins to locate the range limits in
+    // constant time for linear and logarithmic grids.
+    // NOTE: The bins must be in ascending order, and the results are exactly
+    //  the same as for a linear scan, regardless of the spacing. The start
+    //  index is the first bin at or above the lowest frequency, or zero if
+    //  there is none (in which case the stop index is zero as well); the stop
+    //  index is the first bin from there on that is at or above the highest
+    //  frequency, or zero if there is none.
+    public static void getClampedFrequencyRangeIndices( final double[] bins,
+                                                        final FrequencySpacing frequencySpacing,
+                                                        final boolean useLimitedFrequencyRange,
+                                                        final double lowestFrequencyToDisplay,
+                                                        final double highestFrequencyToDisplay,
+                                                        final int[] displayableFrequencyRangeIndices ) {
         final int numberOfBins = bins.length;
 
         // Find the start and end indices for the valid sub-range of the bins.
         // NOTE: If not limiting the natural frequency range of the bins, we
-        //  bypass the loops and use zero and array length minus one as the
+        //  bypass the searches and use zero and array length minus one as the
         //  start and stop indices. Alternatively, this method could be skipped,
         // TODO: Recode this to use rounding instead?
         int startFreqIndex = 0;
@@ -372,27 +780,138 @@ public final class FrequencySignalUtilities {
                             ? startFreqIndex
                             : numberOfBins - 1;
 
-        int freqIndex = startFreqIndex;
         if ( useLimitedFrequencyRange ) {
-            while ( freqIndex < numberOfBins ) {
-                if ( bins[ freqIndex ] >= lowestFrequencyToDisplay ) {
-                    startFreqIndex = freqIndex;
-                    break;
-                }
-                freqIndex++;
-            }
-            while ( freqIndex < numberOfBins ) {
-                if ( bins[ freqIndex ] >= highestFrequencyToDisplay ) {
-                    stopFreqIndex = freqIndex;
-                    break;
+            final int lowestFreqIndex = findFirstBinAtOrAbove(
+                    bins,
+                    frequencySpacing,
+                    0,
+                    lowestFrequencyToDisplay );
+            if ( lowestFreqIndex < numberOfBins ) {
+                startFreqIndex = lowestFreqIndex;
+
+                final int highestFreqIndex = findFirstBinAtOrAbove(
+                        bins,
+                        frequencySpacing,
+                        startFreqIndex,
+                        highestFrequencyToDisplay );
+                if ( highestFreqIndex < numberOfBins ) {
+                    stopFreqIndex = highestFreqIndex;
                 }
-                freqIndex++;
             }
         }
 
-        final int[] displayableFrequencyRangeIndices = new int[ 2 ];
         displayableFrequencyRangeIndices[ 0 ] = startFreqIndex;
         displayableFrequencyRangeIndices[ 1 ] = stopFreqIndex;
-        return displayableFrequencyRangeIndices;
+    }
+
+    // Get the clamped frequency range indices for a frequency grid into a
+    // caller-owned holder, using the grid's cached spacing to locate the range
+    // limits in constant time where the grid allows.
+    public static void getClampedFrequencyRangeIndices( final FrequencyGrid frequencyGrid,
+                                                        final boolean useLimitedFrequencyRange,
+                                                        final double lowestFrequencyToDisplay,
+                                                        final double highestFrequencyToDisplay,
+                                                        final int[] displayableFrequencyRangeIndices ) {
+        getClampedFrequencyRangeIndices( frequencyGrid.frequencyBins,
+                                         frequencyGrid.getFrequencySpacing(),
+                                         useLimitedFrequencyRange,
+                                         lowestFrequencyToDisplay,
+                                         highestFrequencyToDisplay,
+                                         displayableFrequencyRangeIndices );
+    }
+
+    // Find the index of the first bin, starting from the given index, that is
+    // at or above the given frequency, or the number of bins if there is none.
+    // The bins must be in ascending order. For linear and logarithmic grids,
+    // the index is estimated analytically and then confirmed against its
+    // neighbor, which takes constant time; otherwise (or if the estimate is
+    // off by more than a bin), the index is found by binary search.
+    static int findFirstBinAtOrAbove( final double[] bins,
+                                      final FrequencySpacing frequencySpacing,
+                                      final int fromIndex,
+                                      final double frequency ) {
+        final int numberOfBins = bins.length;
+        if ( fromIndex >= numberOfBins ) {
+            return numberOfBins;
+        }
+
+        // NOTE: The comparisons are all written as "at or above", so that a
+        //  NaN frequency is never matched, just as for a linear scan.
+        int lowIndex = fromIndex;
+        int highIndex = numberOfBins;
+
+        final double estimatedIndex = estimateBinIndex( bins,
+                                                        frequencySpacing,
+                                                        frequency );
+        if ( !Double.isNaN( estimatedIndex ) ) {
+            final int probeIndex = ( int ) FastMath.max( fromIndex,
+                    FastMath.min( FastMath.ceil( estimatedIndex ),
+                                  numberOfBins - 1 ) );
+            if ( bins[ probeIndex ] >= frequency ) {
+                highIndex = probeIndex;
+                if ( ( probeIndex > lowIndex )
+                        && !( bins[ probeIndex - 1 ] >= frequency ) ) {
+                    lowIndex = probeIndex;
+                }
+            }
+            else {
+                lowIndex = probeIndex + 1;
+                if ( ( lowIndex < highIndex )
+                        && ( bins[ lowIndex ] >= frequency ) ) {
+                    highIndex = lowIndex;
+                }
+            }
+        }
+
+        while ( lowIndex < highIndex ) {
+            final int middleIndex = ( lowIndex + highIndex ) >>> 1;
+            if ( bins[ middleIndex ] >= frequency ) {
+                highIndex = middleIndex;
+            }
+            else {
+                lowIndex = middleIndex + 1;
+            }
+        }
+
+        return lowIndex;
+    }
+
+    // Estimate the fractional index of the given frequency from the end bins
+    // of a linear or logarithmic grid, or return NaN if the spacing of the
+    // grid doesn't allow for an estimate.
+    private static double estimateBinIndex( final double[] bins,
+                                            final FrequencySpacing frequencySpacing,
+                                            final double frequency ) {
+        final int numberOfBins = bins.length;
+        if ( numberOfBins < 2 ) {
+            return Double.NaN;
+        }
+
+        final double firstBin = bins[ 0 ];
+        final double lastBin = bins[ numberOfBins - 1 ];
+
+        double binRatio = Double.NaN;
+        switch ( frequencySpacing ) {
+            case LINEAR:
+                binRatio = ( frequency - firstBin ) / ( lastBin - firstBin );
+                break;
+            case LOGARITHMIC:
+            case FRACTIONAL_OCTAVE:
+                if ( ( firstBin > 0.0d ) && ( frequency > 0.0d ) ) {
+                    binRatio = FastMath.log( frequency / firstBin )
+                               / FastMath.log( lastBin / firstBin );
+                }
+                break;
+            case ARBITRARY:
+                break;
+            default:
+                final String errMessage = "Unexpected "
+                                          + frequencySpacing.getClass()
+                                                            .getSimpleName()
+                                          + " " + frequencySpacing;
+                throw new IllegalArgumentException( errMessage );
+        }
+
+        return binRatio * ( numberOfBins - 1 );
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import com.mhschmieder.jcommons.lang.EnumUtilities;
+import com.mhschmieder.jcommons.lang.Labeled;
+
+/**
+ * Frequency Spacing refers to how the frequency bins of a spectrum are
+ * distributed across the frequency axis.
+ * <p>
+ * Linear spacing has a constant difference between neighboring bins, as is
+ * the case for the raw output of an FFT. Logarithmic spacing has a constant
+ * ratio between neighboring bins, as is the case for swept-sine and log-
+ * resampled measurements. Fractional octave spacing is the special case of
+ * logarithmic spacing where there is a whole number of bins per octave.
+ * Knowing the spacing allows a bin to be located from its frequency
+ * analytically, rather than by searching; bins with any other spacing are
+ * deemed to be arbitrary, and are searched.
+ */
+public enum FrequencySpacing implements Labeled< FrequencySpacing > {
+    LINEAR( "Linear" ),
+    LOGARITHMIC( "Logarithmic" ),
+    FRACTIONAL_OCTAVE( "Fractional Octave" ),
+    ARBITRARY( "Arbitrary" );
+
+    private final String label;
+
+    FrequencySpacing( final String pLabel ) {
+        label = pLabel;
+    }
+
+    public static FrequencySpacing defaultValue() {
+        return ARBITRARY;
+    }
+
+    @Override
+    public String toString() {
+        // NOTE: This override takes care of displaying the current choice in
+        //  its custom label form when a Combo Box is hosted by a Table Cell. It
+        //  also addresses an issue with the Jackson parser if in a JSON file.
+        return label();
+    }
+
+    @Override
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public FrequencySpacing valueOfLabel( final String text ) {
+        return ( FrequencySpacing ) EnumUtilities.getLabeledEnumFromLabel( text,
+                                                                           values() );
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork-join task for smoothing a block of channels, that share a single
+ * frequency grid, with a pre-computed flat smoothing kernel.
+ * <p>
+ * The channels are split in halves until each task has little enough work to
+ * be worth running serially; a task for a single channel may optionally be
+ * split further by ranges of output bins. As each output bin is still
+ * computed by the same serial loop, the results are bit-identical to smoothing
+ * every channel serially, no matter how the work is split or scheduled.
+ */
+final class GaussianSmoothingTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    // The number of multiply-adds below which a task is run serially, as the
+    // overhead of forking a task would otherwise outweigh the work saved.
+    static final long SERIAL_THRESHOLD_MULTIPLY_ADDS = 1L << 16;
+
+    // The input channels, either as one array per channel or as one
+    // channel-major array per matrix.
+    private final double[][] in;
+    private final double[][] out;
+
+    // The index of each channel's first bin in a channel-major matrix, as the
+    // channel number times this stride, or zero for one array per channel.
+    private final int channelStride;
+
+    // The pre-computed smoothing kernel to apply to every channel.
+    private final SmoothingKernel smoothingKernel;
+
+    // Whether a single channel may be split by ranges of output bins.
+    private final boolean splitBins;
+
+    // The range of channels to smooth, from first (inclusive) to last
+    // (exclusive).
+    private final int startChannelIndex;
+    private final int endChannelIndex;
+
+    // The range of output bins to smooth, from first (inclusive) to last
+    // (exclusive).
+    private final int startBinIndex;
+    private final int endBinIndex;
+
+    GaussianSmoothingTask( final double[][] pIn,
+                           final double[][] pOut,
+                           final int pChannelStride,
+                           final SmoothingKernel pSmoothingKernel,
+                           final boolean pSplitBins,
+                           final int pStartChannelIndex,
+                           final int pEndChannelIndex,
+                           final int pStartBinIndex,
+                           final int pEndBinIndex ) {
+        in = pIn;
+        out = pOut;
+        channelStride = pChannelStride;
+        smoothingKernel = pSmoothingKernel;
+        splitBins = pSplitBins;
+        startChannelIndex = pStartChannelIndex;
+        endChannelIndex = pEndChannelIndex;
+        startBinIndex = pStartBinIndex;
+        endBinIndex = pEndBinIndex;
+    }
+
+    @Override
+    protected void compute() {
+        final int numberOfChannels = endChannelIndex - startChannelIndex;
+        final long numberOfMultiplyAdds = numberOfChannels
+                                          * getNumberOfTaps();
+
+        if ( numberOfMultiplyAdds <= SERIAL_THRESHOLD_MULTIPLY_ADDS ) {
+            smoothSerially();
+        }
+        else if ( numberOfChannels > 1 ) {
+            final int middleChannelIndex = ( startChannelIndex
+                                             + endChannelIndex ) >>> 1;
+            invokeAll( new GaussianSmoothingTask( in,
+                                                  out,
+                                                  channelStride,
+                                                  smoothingKernel,
+                                                  splitBins,
+                                                  startChannelIndex,
+                                                  middleChannelIndex,
+                                                  startBinIndex,
+                                                  endBinIndex ),
+                       new GaussianSmoothingTask( in,
+                                                  out,
+                                                  channelStride,
+                                                  smoothingKernel,
+                                                  splitBins,
+                                                  middleChannelIndex,
+                                                  endChannelIndex,
+                                                  startBinIndex,
+                                                  endBinIndex ) );
+        }
+        else if ( splitBins && ( ( endBinIndex - startBinIndex ) > 1 ) ) {
+            final int middleBinIndex = ( startBinIndex + endBinIndex ) >>> 1;
+            invokeAll( new GaussianSmoothingTask( in,
+                                                  out,
+                                                  channelStride,
+                                                  smoothingKernel,
+                                                  splitBins,
+                                                  startChannelIndex,
+                                                  endChannelIndex,
+                                                  startBinIndex,
+                                                  middleBinIndex ),
+                       new GaussianSmoothingTask( in,
+                                                  out,
+                                                  channelStride,
+                                                  smoothingKernel,
+                                                  splitBins,
+                                                  startChannelIndex,
+                                                  endChannelIndex,
+                                                  middleBinIndex,
+                                                  endBinIndex ) );
+        }
+        else {
+            smoothSerially();
+        }
+    }
+
+    // Get the number of taps in the kernel rows for this task's bin range,
+    // which is cheap to find as the rows are packed contiguously.
+    private long getNumberOfTaps() {
+        if ( startBinIndex >= endBinIndex ) {
+            return 0L;
+        }
+
+        final int lastBinIndex = endBinIndex - 1;
+        return ( long ) smoothingKernel.tapOffsets[ lastBinIndex ]
+               + smoothingKernel.numberOfTaps[ lastBinIndex ]
+               - smoothingKernel.tapOffsets[ startBinIndex ];
+    }
+
+    private void smoothSerially() {
+        for ( int channelIndex = startChannelIndex;
+              channelIndex < endChannelIndex;
+              channelIndex++ ) {
+            // A matrix is passed as a single array, whereas channels passed
+            // as arrays of their own each start at the beginning.
+            final int arrayIndex = ( channelStride > 0 ) ? 0 : channelIndex;
+            final int offset = channelIndex * channelStride;
+            SmoothingUtilities.gaussianSmooth( in[ arrayIndex ],
+                                               offset,
+                                               out[ arrayIndex ],
+                                               offset,
+                                               smoothingKernel,
+                                               startBinIndex,
+                                               endBinIndex );
+        }
+    }
+}
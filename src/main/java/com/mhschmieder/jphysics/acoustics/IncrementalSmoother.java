@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import java.util.BitSet;
+
+/**
+ * A Gaussian smoother for live spectra, where only a fraction of the bins
+ * change meaningfully from one frame to the next, so that only the output bins
+ * whose windows overlap a changed input bin need to be recomputed.
+ * <p>
+ * The smoother keeps a snapshot of the input along with the smoothed output.
+ * An input bin is only deemed to have changed when it differs from the
+ * snapshot by more than the change threshold, in which case the snapshot is
+ * updated; so the output is always exactly the smoothed snapshot, which in
+ * turn is always within the change threshold of the latest input. Once enough
+ * output bins need recomputing that tracking them saves little, every output
+ * bin is recomputed instead.
+ * <p>
+ * As each smoother holds the state of one live spectrum, a smoother must not
+ * be shared across threads, but many smoothers may share one kernel.
+ */
+public final class IncrementalSmoother {
+
+    // The default fraction of output bins needing recomputation beyond which
+    // all of them are recomputed instead, as the savings become marginal.
+    public static final double DIRTY_FRACTION_THRESHOLD_DEFAULT = 0.25d;
+
+    // The kernel for smoothing the snapshot of the input.
+    private final SmoothingKernel smoothingKernel;
+
+    // The number of bins in the input and output.
+    private final int numberOfBins;
+
+    // The largest difference between an input bin and the snapshot that is
+    // deemed to be unchanged.
+    private final double changeThreshold;
+
+    // The largest number of output bins to recompute individually.
+    private final int maximumNumberOfDirtyBins;
+
+    // The range of output bins whose windows include each input bin, from the
+    // first (inclusive) to the last (exclusive).
+    private final int[] affectedStartBinIndices;
+    private final int[] affectedEndBinIndices;
+
+    // The snapshot of the input, and the smoothed snapshot.
+    private final double[] inputSnapshot;
+    private final double[] smoothedOutput;
+
+    // The output bins that need recomputing for the current update.
+    private final BitSet dirtyBins;
+
+    // Whether the snapshot holds any input yet.
+    private boolean initialized;
+
+    /**
+     * Constructs an incremental smoother that recomputes output bins whenever
+     * any input bin in their window changes at all, with the default
+     * threshold for falling back to recomputing every output bin.
+     *
+     * @param pSmoothingKernel The pre-computed smoothing kernel to apply
+     */
+    public IncrementalSmoother( final SmoothingKernel pSmoothingKernel ) {
+        this( pSmoothingKernel, 0.0d, DIRTY_FRACTION_THRESHOLD_DEFAULT );
+    }
+
+    /**
+     * Constructs an incremental smoother.
+     *
+     * @param pSmoothingKernel The pre-computed smoothing kernel to apply
+     * @param pChangeThreshold The largest difference from the previous input
+     *                         that is deemed to be unchanged
+     * @param dirtyFractionThreshold The fraction of output bins needing
+     *                               recomputation beyond which every output
+     *                               bin is recomputed instead
+     */
+    public IncrementalSmoother( final SmoothingKernel pSmoothingKernel,
+                                final double pChangeThreshold,
+                                final double dirtyFractionThreshold ) {
+        smoothingKernel = pSmoothingKernel;
+        numberOfBins = pSmoothingKernel.numberOfBins;
+        changeThreshold = pChangeThreshold;
+        maximumNumberOfDirtyBins = ( int ) ( dirtyFractionThreshold
+                                             * numberOfBins );
+
+        // Invert the kernel's windows, so that we know which output bins are
+        // affected by a change to any given input bin.
+        affectedStartBinIndices = new int[ numberOfBins ];
+        affectedEndBinIndices = new int[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            affectedStartBinIndices[ binIndex ] = numberOfBins;
+        }
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final int firstBinIndex = pSmoothingKernel.firstBinIndices[ binIndex ];
+            final int tapCount = pSmoothingKernel.numberOfTaps[ binIndex ];
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                final int inputBinIndex = firstBinIndex + tapIndex;
+                if ( binIndex < affectedStartBinIndices[ inputBinIndex ] ) {
+                    affectedStartBinIndices[ inputBinIndex ] = binIndex;
+                }
+                affectedEndBinIndices[ inputBinIndex ] = binIndex + 1;
+            }
+        }
+
+        inputSnapshot = new double[ numberOfBins ];
+        smoothedOutput = new double[ numberOfBins ];
+        dirtyBins = new BitSet( numberOfBins );
+
+        initialized = false;
+    }
+
+    /**
+     * Smooths the latest input, recomputing only the output bins whose windows
+     * include a changed input bin, and copies the full smoothed output into
+     * caller-owned output.
+     *
+     * @param in The latest input spectrum, with at least as many bins as the
+     *           kernel
+     * @param out The caller-owned output spectrum, with at least as many bins
+     *            as the kernel
+     * @return The number of output bins that were recomputed
+     */
+    public int update( final double[] in,
+                       final double[] out ) {
+        int numberOfRecomputedBins = numberOfBins;
+
+        if ( !initialized ) {
+            System.arraycopy( in, 0, inputSnapshot, 0, numberOfBins );
+            SmoothingUtilities.gaussianSmooth( inputSnapshot,
+                                               smoothedOutput,
+                                               smoothingKernel );
+            initialized = true;
+        }
+        else {
+            // Mark the output bins affected by each changed input bin, taking
+            // care that a change to or from NaN is deemed to be a change, but
+            // that a bin which stays NaN (or infinite) is not.
+            dirtyBins.clear();
+            for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+                final double value = in[ binIndex ];
+                final double snapshotValue = inputSnapshot[ binIndex ];
+                if ( ( Double.doubleToLongBits( value )
+                       != Double.doubleToLongBits( snapshotValue ) )
+                        && !( Math.abs( value - snapshotValue )
+                              <= changeThreshold ) ) {
+                    inputSnapshot[ binIndex ] = value;
+                    final int affectedStartBinIndex
+                            = affectedStartBinIndices[ binIndex ];
+                    final int affectedEndBinIndex
+                            = affectedEndBinIndices[ binIndex ];
+                    if ( affectedStartBinIndex < affectedEndBinIndex ) {
+                        dirtyBins.set( affectedStartBinIndex,
+                                       affectedEndBinIndex );
+                    }
+                }
+            }
+
+            numberOfRecomputedBins = dirtyBins.cardinality();
+            if ( numberOfRecomputedBins > maximumNumberOfDirtyBins ) {
+                SmoothingUtilities.gaussianSmooth( inputSnapshot,
+                                                   smoothedOutput,
+                                                   smoothingKernel );
+                numberOfRecomputedBins = numberOfBins;
+            }
+            else {
+                // Recompute each contiguous run of dirty output bins.
+                int startBinIndex = dirtyBins.nextSetBit( 0 );
+                while ( startBinIndex >= 0 ) {
+                    final int endBinIndex = dirtyBins.nextClearBit(
+                            startBinIndex );
+                    SmoothingUtilities.gaussianSmooth( inputSnapshot,
+                                                       0,
+                                                       smoothedOutput,
+                                                       0,
+                                                       smoothingKernel,
+                                                       startBinIndex,
+                                                       endBinIndex );
+                    startBinIndex = dirtyBins.nextSetBit( endBinIndex );
+                }
+            }
+        }
+
+        System.arraycopy( smoothedOutput, 0, out, 0, numberOfBins );
+
+        return numberOfRecomputedBins;
+    }
+
+    /**
+     * Discards the snapshot of the input, so that the next update recomputes
+     * every output bin, such as after a change of measurement source.
+     */
+    public void reset() {
+        initialized = false;
+    }
+
+    /**
+     * Returns the smoothing kernel applied by this smoother.
+     *
+     * @return The smoothing kernel applied by this smoother
+     */
+    public SmoothingKernel getSmoothingKernel() {
+        return smoothingKernel;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe, bounded map that evicts its least recently used entry when
+ * full, and counts hits and misses, as the basis of the kernel caches.
+ * <p>
+ * Values are looked up and added in separate steps, so that the caller may
+ * build a missing value outside of the lock, and so that a large build
+ * doesn't stall threads that are looking up other values. If two threads
+ * build the same value at once, the first one added is kept and shared.
+ *
+ * @param <K> The type of the keys, which must not be modified once added
+ * @param <V> The type of the values
+ */
+final class LruCache< K, V > {
+
+    // The maximum number of entries held before evicting the eldest.
+    private final int maximumSize;
+
+    // The entries, in access order so that the eldest entry is always the
+    // least recently used one. All access is guarded by this instance.
+    private final LinkedHashMap< K, V > entries;
+
+    // The number of lookups that found a cached value.
+    private long hitCount;
+
+    // The number of lookups that found nothing.
+    private long missCount;
+
+    // Construct a cache that holds at most the given number of entries,
+    // which the caller has already checked is positive.
+    LruCache( final int pMaximumSize ) {
+        maximumSize = pMaximumSize;
+
+        entries = new LinkedHashMap< K, V >( 16, 0.75f, true ) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry< K,
+                    V > eldest ) {
+                return size() > maximumSize;
+            }
+        };
+
+        hitCount = 0L;
+        missCount = 0L;
+    }
+
+    // Get the value cached for a key, or null if there is none, counting the
+    // lookup as a hit or a miss.
+    synchronized V get( final K key ) {
+        final V value = entries.get( key );
+        if ( value != null ) {
+            hitCount++;
+        }
+        else {
+            missCount++;
+        }
+
+        return value;
+    }
+
+    // Cache a newly built value and return it, unless another thread cached
+    // one for the same key in the meantime, in which case we return theirs so
+    // that there is only ever one copy.
+    synchronized V putIfAbsent( final K key,
+                                final V value ) {
+        final V cachedValue = entries.putIfAbsent( key, value );
+        return ( cachedValue != null )
+               ? cachedValue
+               : value;
+    }
+
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    synchronized long getMissCount() {
+        return missCount;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    // Remove all entries and reset the hit and miss counts.
+    synchronized void clear() {
+        entries.clear();
+        hitCount = 0L;
+        missCount = 0L;
+    }
+}
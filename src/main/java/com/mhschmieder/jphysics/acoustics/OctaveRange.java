@@ -0,0 +1,286 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import com.mhschmieder.jcommons.lang.EnumUtilities;
+import com.mhschmieder.jcommons.lang.Labeled;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Octave Range refers to the standard octave-wide ranges of center frequencies
+ * that are offered for selection in band-based displays, from 10 Hz up to
+ * 20 kHz, along with the Wide range that spans the whole audio band.
+ * <p>
+ * The narrow ranges are contiguous, and their boundaries are held in a sorted
+ * table so that a center frequency is classified by binary search. Note that
+ * the boundaries are slightly below the nominal edges in the labels (e.g.
+ * 624 Hz rather than 630 Hz), so that the exact base two center frequencies
+ * of the bands at the nominal edges fall into the range above. The first and
+ * last narrow ranges are open-ended, so that out-of-range center frequencies
+ * are classified by closest match.
+ * <p>
+ * The labels are those that were historically used as the octave range
+ * values themselves, and may be mapped back to the enum in constant time via
+ * {@link #getOctaveRangeFromLabel}.
+ */
+public enum OctaveRange implements Labeled< OctaveRange > {
+    WIDE( "20 Hz To 20 kHz", 4000.0d, 4000.0d ),
+    HZ_10_TO_20( "10 Hz to 20 Hz", 16.0d, 15.6d ),
+    HZ_20_TO_40( "20 Hz to 40 Hz", 31.5d, 31.2d ),
+    HZ_40_TO_80( "40 Hz to 80 Hz", 63.0d, 62.5d ),
+    HZ_80_TO_160( "80 Hz to 160 Hz", 125.0d, 125.0d ),
+    HZ_160_TO_315( "160 Hz to 315 Hz", 250.0d, 250.0d ),
+    HZ_315_TO_630( "315 Hz to 630 Hz", 500.0d, 500.0d ),
+    HZ_630_TO_1250( "630 Hz to 1.25 kHz", 1000.0d, 1000.0d ),
+    HZ_1250_TO_2500( "1.25 kHz to 2.5 kHz", 2000.0d, 2000.0d ),
+    HZ_2500_TO_5000( "2.5 kHz to 5 kHz", 4000.0d, 4000.0d ),
+    HZ_5000_TO_10000( "5 kHz to 10 kHz", 8000.0d, 8000.0d ),
+    HZ_10000_TO_20000( "10 kHz to 20 kHz", 16000.0d, 16000.0d );
+
+    // The lower boundary of each narrow range after the first, which is also
+    // the upper boundary of the narrow range below it, in ascending order.
+    private static final double[] NARROW_RANGE_BOUNDARIES = {
+            19.0d,
+            39.0d,
+            78.0d,
+            156.0d,
+            312.0d,
+            624.0d,
+            1248.0d,
+            2496.0d,
+            4992.0d,
+            9986.0d
+    };
+
+    // The narrow ranges, in ascending order of frequency.
+    private static final OctaveRange[] NARROW_RANGES = {
+            HZ_10_TO_20,
+            HZ_20_TO_40,
+            HZ_40_TO_80,
+            HZ_80_TO_160,
+            HZ_160_TO_315,
+            HZ_315_TO_630,
+            HZ_630_TO_1250,
+            HZ_1250_TO_2500,
+            HZ_2500_TO_5000,
+            HZ_5000_TO_10000,
+            HZ_10000_TO_20000
+    };
+
+    // The octave ranges, indexed by label.
+    private static final Map< String, OctaveRange > OCTAVE_RANGES_BY_LABEL
+            = new HashMap<>();
+
+    static {
+        for ( final OctaveRange octaveRange : values() ) {
+            OCTAVE_RANGES_BY_LABEL.put( octaveRange.label, octaveRange );
+        }
+    }
+
+    private final String label;
+
+    // The nominal default center frequency (in Hertz) for this range, for
+    // full octave and for narrower bandwidths respectively.
+    private final double centerFrequencyDefault;
+    private final double narrowBandCenterFrequencyDefault;
+
+    OctaveRange( final String pLabel,
+                 final double pCenterFrequencyDefault,
+                 final double pNarrowBandCenterFrequencyDefault ) {
+        label = pLabel;
+        centerFrequencyDefault = pCenterFrequencyDefault;
+        narrowBandCenterFrequencyDefault = pNarrowBandCenterFrequencyDefault;
+    }
+
+    public static OctaveRange defaultValue() {
+        return WIDE;
+    }
+
+    @Override
+    public String toString() {
+        // NOTE: This override takes care of displaying the current choice in
+        //  its custom label form when a Combo Box is hosted by a Table Cell. It
+        //  also addresses an issue with the Jackson parser if in a JSON file.
+        return label();
+    }
+
+    @Override
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public OctaveRange valueOfLabel( final String text ) {
+        return ( OctaveRange ) EnumUtilities.getLabeledEnumFromLabel( text,
+                                                                      values() );
+    }
+
+    /**
+     * Returns the octave range with the given label, via a hash index.
+     *
+     * @param text The label of the octave range, such as "80 Hz to 160 Hz"
+     * @return The octave range with the given label, or {@code null} if there
+     *         is no such octave range
+     */
+    public static OctaveRange getOctaveRangeFromLabel( final String text ) {
+        return OCTAVE_RANGES_BY_LABEL.get( text );
+    }
+
+    /**
+     * Returns the narrow octave range that contains a center frequency, by
+     * binary search of the range boundaries.
+     * <p>
+     * Center frequencies below the lowest boundary fall in the lowest range,
+     * and all others (including NaN) fall in the highest range that starts at
+     * or below them.
+     *
+     * @param centerFrequency The center frequency (in Hertz) to classify
+     * @return The narrow octave range that contains the center frequency
+     */
+    public static OctaveRange getNominalOctaveRange( final double centerFrequency ) {
+        return NARROW_RANGES[ getNarrowRangeIndex( centerFrequency ) ];
+    }
+
+    /**
+     * Classifies many center frequencies at once.
+     *
+     * @param centerFrequencies The center frequencies (in Hertz) to classify
+     * @param octaveRanges The caller-owned output, with the narrow octave
+     *                     range for each center frequency
+     * @param numberOfFrequencies The number of center frequencies to classify
+     */
+    public static void getNominalOctaveRanges( final double[] centerFrequencies,
+                                               final OctaveRange[] octaveRanges,
+                                               final int numberOfFrequencies ) {
+        for ( int index = 0; index < numberOfFrequencies; index++ ) {
+            octaveRanges[ index ] = NARROW_RANGES[ getNarrowRangeIndex(
+                    centerFrequencies[ index ] ) ];
+        }
+    }
+
+    /**
+     * Classifies many center frequencies at once, by octave offset from the
+     * 10 Hz to 20 Hz range, which suits indexed lookups.
+     *
+     * @param centerFrequencies The center frequencies (in Hertz) to classify
+     * @param octaveOffsets The caller-owned output, with the octave offset of
+     *                      the narrow octave range for each center frequency
+     * @param numberOfFrequencies The number of center frequencies to classify
+     */
+    public static void getOctaveOffsetsFrom10Hz( final double[] centerFrequencies,
+                                                 final int[] octaveOffsets,
+                                                 final int numberOfFrequencies ) {
+        for ( int index = 0; index < numberOfFrequencies; index++ ) {
+            octaveOffsets[ index ] = getNarrowRangeIndex(
+                    centerFrequencies[ index ] );
+        }
+    }
+
+    // Get the index of the narrow range that contains a center frequency,
+    // which is the number of boundaries at or below it.
+    // NOTE: As every comparison with NaN is false, NaN lands in the last range.
+    private static int getNarrowRangeIndex( final double centerFrequency ) {
+        int low = 0;
+        int high = NARROW_RANGE_BOUNDARIES.length;
+        while ( low < high ) {
+            final int middle = ( low + high ) >>> 1;
+            if ( centerFrequency < NARROW_RANGE_BOUNDARIES[ middle ] ) {
+                high = middle;
+            }
+            else {
+                low = middle + 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns whether this is the Wide range rather than a narrow range.
+     *
+     * @return {@code true} if this is the Wide range
+     */
+    public boolean isWide() {
+        return this == WIDE;
+    }
+
+    /**
+     * Returns the number of octaves that this range lies above the 10 Hz to
+     * 20 Hz range; the Wide range is deemed to start there too.
+     *
+     * @return The octave offset of this range from the 10 Hz to 20 Hz range
+     */
+    public int getOctaveOffsetFrom10Hz() {
+        return isWide()
+               ? 0
+               : ordinal() - HZ_10_TO_20.ordinal();
+    }
+
+    /**
+     * Returns whether a center frequency lies within this range; all center
+     * frequencies lie within the Wide range, whereas NaN lies within no
+     * narrow range.
+     *
+     * @param centerFrequency The center frequency (in Hertz) to check
+     * @return {@code true} if the center frequency lies within this range
+     */
+    public boolean containsCenterFrequency( final double centerFrequency ) {
+        if ( isWide() ) {
+            return true;
+        }
+
+        // NOTE: The first and last ranges are open-ended, so that infinite
+        //  center frequencies fall within them but NaN still doesn't.
+        final int narrowRangeIndex = getOctaveOffsetFrom10Hz();
+        return ( ( narrowRangeIndex == 0 )
+                 || ( centerFrequency >= NARROW_RANGE_BOUNDARIES[
+                         narrowRangeIndex - 1 ] ) )
+               && ( ( narrowRangeIndex == NARROW_RANGE_BOUNDARIES.length )
+                    || ( centerFrequency < NARROW_RANGE_BOUNDARIES[
+                            narrowRangeIndex ] ) );
+    }
+
+    /**
+     * Returns the nominal default center frequency for this range.
+     *
+     * @param narrowBand {@code true} if the center frequency is for a
+     *                   narrower bandwidth than full octave, which uses exact
+     *                   base two values in the lowest octaves
+     * @return The nominal default center frequency (in Hertz)
+     */
+    public double getNominalCenterFrequencyDefault( final boolean narrowBand ) {
+        return narrowBand
+               ? narrowBandCenterFrequencyDefault
+               : centerFrequencyDefault;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import com.mhschmieder.jcommons.lang.EnumUtilities;
+import com.mhschmieder.jcommons.lang.Labeled;
+
+/**
+ * Phase Wrapping refers to how a phase response is presented across the
+ * frequency bins of a spectrum.
+ * <p>
+ * Unwrapped phase accumulates continuously from bin to bin, so that group
+ * delay is visible as a steady slope. Wrapped phase is folded into the range
+ * from -180 up to (but not including) +180 degrees, per the polarity reversal
+ * convention. Display phase is also wrapped, but values at the ±180 degree
+ * boundary follow the sign of the previous bin, so that charts don't draw
+ * spurious lines between -180 and +180.
+ */
+public enum PhaseWrapping implements Labeled< PhaseWrapping > {
+    UNWRAP( "Unwrapped" ),
+    WRAP( "Wrapped" ),
+    DISPLAY( "Display" );
+
+    private final String label;
+
+    PhaseWrapping( final String pLabel ) {
+        label = pLabel;
+    }
+
+    public static PhaseWrapping defaultValue() {
+        return DISPLAY;
+    }
+
+    @Override
+    public String toString() {
+        // NOTE: This override takes care of displaying the current choice in
+        //  its custom label form when a Combo Box is hosted by a Table Cell. It
+        //  also addresses an issue with the Jackson parser if in a JSON file.
+        return label();
+    }
+
+    @Override
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public PhaseWrapping valueOfLabel( final String text ) {
+        return ( PhaseWrapping ) EnumUtilities.getLabeledEnumFromLabel( text,
+                                                                        values() );
+    }
+}
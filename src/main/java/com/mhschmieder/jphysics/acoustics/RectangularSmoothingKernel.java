@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+/**
+ * An immutable rectangular (boxcar) smoothing kernel, where every output bin
+ * is the plain average of the input bins that fall within a fractional octave
+ * band centered on that output bin.
+ * <p>
+ * Only the lower and upper bin edges of each band are stored, as the average
+ * is taken from the difference of two cumulative sums, so the cost per output
+ * bin is constant no matter how wide the band is. This is the smoothing most
+ * measurement tools refer to as "1/N octave smoothing".
+ * <p>
+ * Kernels are created via {@link SmoothingUtilities}; the cumulative sums
+ * live in a caller-owned workspace rather than in the kernel, so that a kernel
+ * may be shared in the same way as a {@link SmoothingKernel}.
+ */
+public final class RectangularSmoothingKernel {
+
+    // The number of output bins covered by this kernel.
+    final int numberOfBins;
+
+    // The index of the first input bin in each output bin's band (inclusive).
+    final int[] lowerBinIndices;
+
+    // The index just past the last input bin in each band (exclusive).
+    final int[] upperBinIndices;
+
+    // The reciprocal of the number of input bins in each band, so that the
+    // average is taken without a division per output bin.
+    final double[] bandScales;
+
+    /**
+     * Constructs a rectangular smoothing kernel from pre-computed band edges.
+     * <p>
+     * The arrays are adopted rather than copied, so callers within this
+     * package must not modify them afterwards.
+     *
+     * @param pNumberOfBins The number of output bins in the kernel
+     * @param pLowerBinIndices The first input bin of each band (inclusive)
+     * @param pUpperBinIndices The last input bin of each band (exclusive)
+     */
+    RectangularSmoothingKernel( final int pNumberOfBins,
+                                final int[] pLowerBinIndices,
+                                final int[] pUpperBinIndices ) {
+        numberOfBins = pNumberOfBins;
+        lowerBinIndices = pLowerBinIndices;
+        upperBinIndices = pUpperBinIndices;
+
+        bandScales = new double[ pNumberOfBins ];
+        for ( int binIndex = 0; binIndex < pNumberOfBins; binIndex++ ) {
+            bandScales[ binIndex ] = 1.0d / ( pUpperBinIndices[ binIndex ]
+                                              - pLowerBinIndices[ binIndex ] );
+        }
+    }
+
+    /**
+     * Returns the number of output bins covered by this kernel.
+     *
+     * @return The number of output bins covered by this kernel
+     */
+    public int getNumberOfBins() {
+        return numberOfBins;
+    }
+
+    /**
+     * Returns the index of the first input bin within the band that is
+     * centered on the given output bin.
+     *
+     * @param binIndex The index of the output bin
+     * @return The index of the first input bin in the band (inclusive)
+     */
+    public int getLowerBinIndex( final int binIndex ) {
+        return lowerBinIndices[ binIndex ];
+    }
+
+    /**
+     * Returns the index just past the last input bin within the band that is
+     * centered on the given output bin.
+     *
+     * @param binIndex The index of the output bin
+     * @return The index just past the last input bin in the band (exclusive)
+     */
+    public int getUpperBinIndex( final int binIndex ) {
+        return upperBinIndices[ binIndex ];
+    }
+}
@@ -44,8 +44,12 @@ import com.mhschmieder.jcommons.lang.Labeled;
  */
 public enum Smoothing implements Labeled< Smoothing > {
     NARROW_BAND( "No Smoothing" ),
+    FORTY_EIGHTH_OCTAVE_BAND( "1/48 Octave Smoothing" ),
+    TWENTY_FOURTH_OCTAVE_BAND( "1/24 Octave Smoothing" ),
+    TWELFTH_OCTAVE_BAND( "1/12 Octave Smoothing" ),
     SIXTH_OCTAVE_BAND( "1/6 Octave Smoothing" ),
-    THIRD_OCTAVE_BAND( "1/3 Octave Smoothing" );
+    THIRD_OCTAVE_BAND( "1/3 Octave Smoothing" ),
+    OCTAVE_BAND( "1 Octave Smoothing" );
 
     private final String label;
 
@@ -53,6 +57,10 @@ public enum Smoothing implements Labeled< Smoothing > {
         label = pLabel;
     }
 
+    public static Smoothing fromRelativeBandwidth( final RelativeBandwidth relativeBandwidth ) {
+        return fromOctaveDivider( relativeBandwidth.toOctaveDivider() );
+    }
+
     public static Smoothing fromOctaveDivider( final int octaveDivider ) {
         Smoothing smoothing = defaultValue();
 
@@ -60,12 +68,24 @@ public enum Smoothing implements Labeled< Smoothing > {
             case 0:
                 smoothing = NARROW_BAND;
                 break;
+            case 48:
+                smoothing = FORTY_EIGHTH_OCTAVE_BAND;
+                break;
+            case 24:
+                smoothing = TWENTY_FOURTH_OCTAVE_BAND;
+                break;
+            case 12:
+                smoothing = TWELFTH_OCTAVE_BAND;
+                break;
             case 6:
                 smoothing = SIXTH_OCTAVE_BAND;
                 break;
             case 3:
                 smoothing = THIRD_OCTAVE_BAND;
                 break;
+            case 1:
+                smoothing = OCTAVE_BAND;
+                break;
             default:
                 break;
         }
@@ -107,12 +127,24 @@ public enum Smoothing implements Labeled< Smoothing > {
             case NARROW_BAND:
                 octaveDivider = 0;
                 break;
+            case FORTY_EIGHTH_OCTAVE_BAND:
+                octaveDivider = 48;
+                break;
+            case TWENTY_FOURTH_OCTAVE_BAND:
+                octaveDivider = 24;
+                break;
+            case TWELFTH_OCTAVE_BAND:
+                octaveDivider = 12;
+                break;
             case SIXTH_OCTAVE_BAND:
                 octaveDivider = 6;
                 break;
             case THIRD_OCTAVE_BAND:
                 octaveDivider = 3;
                 break;
+            case OCTAVE_BAND:
+                octaveDivider = 1;
+                break;
             default:
                 final String errMessage = "Unexpected " + smoothing.getClass()
                                                                    .getSimpleName()
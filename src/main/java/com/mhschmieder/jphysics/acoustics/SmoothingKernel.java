@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+/**
+ * An immutable smoothing kernel, where every row (one per output bin) is a
+ * run of weights applied to a contiguous range of input bins.
+ * <p>
+ * Unlike the legacy jagged smoothing tables, all of the weights live in one
+ * flat primitive array, and each row is located via its start offset into
+ * that array along with its tap count and the index of the first input bin
+ * that it covers. This keeps the whole kernel contiguous in memory and avoids
+ * a pointer chase per row when smoothing large numbers of spectra.
+ * <p>
+ * The weights of each row are normalized to sum to unity at construction
+ * time, so that smoothing reduces to a plain weighted sum per output bin.
+ * <p>
+ * Kernels are created via {@link SmoothingUtilities} and may safely be shared
+ * across threads, as they are never modified after construction.
+ */
+public final class SmoothingKernel {
+
+    // The number of output bins (rows) covered by this kernel.
+    final int numberOfBins;
+
+    // The index of the first input bin covered by each row.
+    final int[] firstBinIndices;
+
+    // The start offset of each row within the flat weights array.
+    final int[] tapOffsets;
+
+    // The number of taps (i.e. contiguous input bins) for each row.
+    final int[] numberOfTaps;
+
+    // The normalized weights for all rows, stored back to back.
+    final double[] weights;
+
+    /**
+     * Constructs a smoothing kernel from pre-computed row layout and weights.
+     * <p>
+     * The arrays are adopted rather than copied, so callers within this
+     * package must not modify them afterwards.
+     *
+     * @param pNumberOfBins The number of output bins (rows) in the kernel
+     * @param pFirstBinIndices The index of the first input bin for each row
+     * @param pTapOffsets The start offset of each row in the weights array
+     * @param pNumberOfTaps The number of taps in each row
+     * @param pWeights The normalized weights for all rows, back to back
+     */
+    SmoothingKernel( final int pNumberOfBins,
+                     final int[] pFirstBinIndices,
+                     final int[] pTapOffsets,
+                     final int[] pNumberOfTaps,
+                     final double[] pWeights ) {
+        numberOfBins = pNumberOfBins;
+        firstBinIndices = pFirstBinIndices;
+        tapOffsets = pTapOffsets;
+        numberOfTaps = pNumberOfTaps;
+        weights = pWeights;
+    }
+
+    /**
+     * Returns the number of output bins (rows) covered by this kernel.
+     *
+     * @return The number of output bins covered by this kernel
+     */
+    public int getNumberOfBins() {
+        return numberOfBins;
+    }
+
+    /**
+     * Returns the index of the first input bin that contributes to the given
+     * output bin.
+     *
+     * @param binIndex The index of the output bin
+     * @return The index of the first input bin in the output bin's window
+     */
+    public int getFirstBinIndex( final int binIndex ) {
+        return firstBinIndices[ binIndex ];
+    }
+
+    /**
+     * Returns the number of taps (contiguous input bins) that contribute to
+     * the given output bin.
+     *
+     * @param binIndex The index of the output bin
+     * @return The number of taps in the output bin's window
+     */
+    public int getNumberOfTaps( final int binIndex ) {
+        return numberOfTaps[ binIndex ];
+    }
+
+    /**
+     * Returns the normalized weight of a single tap of the given output bin.
+     *
+     * @param binIndex The index of the output bin
+     * @param tapIndex The index of the tap, relative to the first input bin
+     * @return The normalized weight of the requested tap
+     */
+    public double getWeight( final int binIndex,
+                             final int tapIndex ) {
+        return weights[ tapOffsets[ binIndex ] + tapIndex ];
+    }
+
+    /**
+     * Returns the total number of taps across all rows, which is a direct
+     * measure of both the memory footprint and the cost of one smoothing pass.
+     *
+     * @return The total number of taps across all rows of this kernel
+     */
+    public int getTotalNumberOfTaps() {
+        return weights.length;
+    }
+}
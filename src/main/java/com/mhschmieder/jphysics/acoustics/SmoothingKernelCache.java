@@ -0,0 +1,495 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+
+/**
+ * A thread-safe, bounded registry of smoothing kernels, keyed by a fingerprint
+ * of the frequency bins along with the octave divider and smoothing window.
+ * <p>
+ * Building a kernel costs a logarithm per bin and an exponential per tap, so
+ * when many channels or sessions share a small number of frequency grids, it
+ * is far cheaper to build each kernel once and share it. Kernels are immutable
+ * and so may be used concurrently by any number of threads.
+ * <p>
+ * When the cache is full, the least recently used kernel is evicted. Hit and
+ * miss counts are kept so that clients can judge whether the capacity suits
+ * their workload.
+ */
+public final class SmoothingKernelCache {
+
+    // The default capacity is enough for a handful of grids that are each
+    // smoothed at a few different bandwidths.
+    public static final int MAXIMUM_NUMBER_OF_KERNELS_DEFAULT = 16;
+
+    // The shared instance, for clients that don't need a private cache.
+    private static final SmoothingKernelCache SHARED_INSTANCE
+            = new SmoothingKernelCache( MAXIMUM_NUMBER_OF_KERNELS_DEFAULT );
+
+    // The cached kernels, which also keeps the hit and miss counts.
+    // NOTE: The kernel type depends on the smoothing window in the key, as
+    //  rectangular kernels use cumulative sums vs. per-tap weights.
+    private final LruCache< KernelKey, Object > kernels;
+
+    /**
+     * Constructs a smoothing kernel cache with the given capacity.
+     *
+     * @param pMaximumNumberOfKernels The maximum number of kernels to hold
+     *                                before evicting the least recently used
+     */
+    public SmoothingKernelCache( final int pMaximumNumberOfKernels ) {
+        if ( pMaximumNumberOfKernels < 1 ) {
+            throw new IllegalArgumentException(
+                    "Smoothing kernel cache capacity must be positive" );
+        }
+
+        kernels = new LruCache<>( pMaximumNumberOfKernels );
+    }
+
+    /**
+     * Returns the shared smoothing kernel cache, which has the default
+     * capacity.
+     *
+     * @return The shared smoothing kernel cache
+     */
+    public static SmoothingKernelCache getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Returns the smoothing kernel for the given frequency bins, bandwidth and
+     * window, building and caching it first if necessary.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param relativeBandwidth The fractional octave smoothing bandwidth
+     * @param smoothingWindow The shape of the smoothing window
+     * @return The shared smoothing kernel for the given parameters
+     */
+    public SmoothingKernel getSmoothingKernel( final double[] frequencyBins,
+                                               final int numberOfBins,
+                                               final RelativeBandwidth relativeBandwidth,
+                                               final SmoothingWindow smoothingWindow ) {
+        return getSmoothingKernel( frequencyBins,
+                                   numberOfBins,
+                                   relativeBandwidth.toOctaveDivider(),
+                                   smoothingWindow );
+    }
+
+    /**
+     * Returns the smoothing kernel for the given frequency bins, bandwidth and
+     * window, building and caching it first if necessary.
+     * <p>
+     * The frequency bins are copied when a new kernel is cached, so the caller
+     * remains free to modify or reuse their array afterwards.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param octaveDivider The octave divider for the smoothing bandwidth
+     * @param smoothingWindow The shape of the smoothing window, which must
+     *                        have per-tap weights (i.e. not rectangular)
+     * @return The shared smoothing kernel for the given parameters
+     * @throws IllegalArgumentException if the octave divider is not positive,
+     *         or if the smoothing window is rectangular
+     */
+    public SmoothingKernel getSmoothingKernel( final double[] frequencyBins,
+                                               final int numberOfBins,
+                                               final int octaveDivider,
+                                               final SmoothingWindow smoothingWindow ) {
+        if ( SmoothingWindow.RECTANGULAR.equals( smoothingWindow ) ) {
+            throw new IllegalArgumentException(
+                    "Rectangular smoothing kernels are cached separately" );
+        }
+
+        return ( SmoothingKernel ) getKernel( frequencyBins,
+                                              numberOfBins,
+                                              getFingerprint( frequencyBins,
+                                                              numberOfBins ),
+                                              null,
+                                              octaveDivider,
+                                              smoothingWindow,
+                                              null );
+    }
+
+    /**
+     * Returns the Gaussian smoothing kernel for the given frequency bins and
+     * frequency-dependent smoothing profile, building and caching it first if
+     * necessary.
+     * <p>
+     * Profiles are matched by equality, so equal {@link SmoothingProfile}
+     * tables share a kernel, whereas other functions (such as lambdas) only
+     * share a kernel when the same instance is passed in each time.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param smoothingProfile The function from frequency (in Hertz) to the
+     *                         fractional octave smoothing bandwidth
+     * @return The shared smoothing kernel for the given parameters
+     */
+    public SmoothingKernel getVariableSmoothingKernel( final double[] frequencyBins,
+                                                       final int numberOfBins,
+                                                       final DoubleFunction< RelativeBandwidth > smoothingProfile ) {
+        return ( SmoothingKernel ) getKernel( frequencyBins,
+                                              numberOfBins,
+                                              getFingerprint( frequencyBins,
+                                                              numberOfBins ),
+                                              null,
+                                              0,
+                                              SmoothingWindow.GAUSSIAN,
+                                              smoothingProfile );
+    }
+
+    /**
+     * Returns the rectangular (boxcar) smoothing kernel for the given
+     * frequency bins and bandwidth, building and caching it first if
+     * necessary.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param relativeBandwidth The fractional octave smoothing bandwidth
+     * @return The shared rectangular smoothing kernel for the given parameters
+     */
+    public RectangularSmoothingKernel getRectangularSmoothingKernel( final double[] frequencyBins,
+                                                                     final int numberOfBins,
+                                                                     final RelativeBandwidth relativeBandwidth ) {
+        return ( RectangularSmoothingKernel ) getKernel(
+                frequencyBins,
+                numberOfBins,
+                getFingerprint( frequencyBins, numberOfBins ),
+                null,
+                relativeBandwidth.toOctaveDivider(),
+                SmoothingWindow.RECTANGULAR,
+                null );
+    }
+
+    /**
+     * Returns the smoothing kernel for the given frequency grid, bandwidth and
+     * window, building and caching it first if necessary.
+     * <p>
+     * The grid's cached fingerprint and derived data are reused, and as the
+     * grid is immutable, its bins needn't be copied when caching a new kernel.
+     *
+     * @param frequencyGrid The frequency grid to smooth over
+     * @param relativeBandwidth The fractional octave smoothing bandwidth
+     * @param smoothingWindow The shape of the smoothing window, which must
+     *                        have per-tap weights (i.e. not rectangular)
+     * @return The shared smoothing kernel for the given parameters
+     */
+    public SmoothingKernel getSmoothingKernel( final FrequencyGrid frequencyGrid,
+                                               final RelativeBandwidth relativeBandwidth,
+                                               final SmoothingWindow smoothingWindow ) {
+        return getSmoothingKernel( frequencyGrid,
+                                   relativeBandwidth.toOctaveDivider(),
+                                   smoothingWindow );
+    }
+
+    /**
+     * Returns the smoothing kernel for the given frequency grid, bandwidth and
+     * window, building and caching it first if necessary.
+     * <p>
+     * The grid's cached fingerprint and derived data are reused, and as the
+     * grid is immutable, its bins needn't be copied when caching a new kernel.
+     *
+     * @param frequencyGrid The frequency grid to smooth over
+     * @param octaveDivider The octave divider for the smoothing bandwidth
+     * @param smoothingWindow The shape of the smoothing window, which must
+     *                        have per-tap weights (i.e. not rectangular)
+     * @return The shared smoothing kernel for the given parameters
+     * @throws IllegalArgumentException if the octave divider is not positive,
+     *         or if the smoothing window is rectangular
+     */
+    public SmoothingKernel getSmoothingKernel( final FrequencyGrid frequencyGrid,
+                                               final int octaveDivider,
+                                               final SmoothingWindow smoothingWindow ) {
+        if ( SmoothingWindow.RECTANGULAR.equals( smoothingWindow ) ) {
+            throw new IllegalArgumentException(
+                    "Rectangular smoothing kernels are cached separately" );
+        }
+
+        return ( SmoothingKernel ) getKernel( frequencyGrid.frequencyBins,
+                                              frequencyGrid.getNumberOfBins(),
+                                              frequencyGrid.getFingerprint(),
+                                              frequencyGrid,
+                                              octaveDivider,
+                                              smoothingWindow,
+                                              null );
+    }
+
+    /**
+     * Returns the Gaussian smoothing kernel for the given frequency grid and
+     * frequency-dependent smoothing profile, building and caching it first if
+     * necessary.
+     *
+     * @param frequencyGrid The frequency grid to smooth over
+     * @param smoothingProfile The function from frequency (in Hertz) to the
+     *                         fractional octave smoothing bandwidth
+     * @return The shared smoothing kernel for the given parameters
+     */
+    public SmoothingKernel getVariableSmoothingKernel( final FrequencyGrid frequencyGrid,
+                                                       final DoubleFunction< RelativeBandwidth > smoothingProfile ) {
+        return ( SmoothingKernel ) getKernel( frequencyGrid.frequencyBins,
+                                              frequencyGrid.getNumberOfBins(),
+                                              frequencyGrid.getFingerprint(),
+                                              frequencyGrid,
+                                              0,
+                                              SmoothingWindow.GAUSSIAN,
+                                              smoothingProfile );
+    }
+
+    /**
+     * Returns the rectangular (boxcar) smoothing kernel for the given
+     * frequency grid and bandwidth, building and caching it first if
+     * necessary.
+     *
+     * @param frequencyGrid The frequency grid to smooth over
+     * @param relativeBandwidth The fractional octave smoothing bandwidth
+     * @return The shared rectangular smoothing kernel for the given parameters
+     */
+    public RectangularSmoothingKernel getRectangularSmoothingKernel( final FrequencyGrid frequencyGrid,
+                                                                     final RelativeBandwidth relativeBandwidth ) {
+        return ( RectangularSmoothingKernel ) getKernel(
+                frequencyGrid.frequencyBins,
+                frequencyGrid.getNumberOfBins(),
+                frequencyGrid.getFingerprint(),
+                frequencyGrid,
+                relativeBandwidth.toOctaveDivider(),
+                SmoothingWindow.RECTANGULAR,
+                null );
+    }
+
+    // Get the kernel for the given parameters, building and caching it first
+    // if necessary; the kernel type is determined by the smoothing window,
+    // and the smoothing profile (if any) overrides the octave divider. The
+    // frequency grid (if any) is the source of the frequency bins, so that its
+    // cached fingerprint and derived data are reused.
+    private Object getKernel( final double[] frequencyBins,
+                              final int numberOfBins,
+                              final long fingerprint,
+                              final FrequencyGrid frequencyGrid,
+                              final int octaveDivider,
+                              final SmoothingWindow smoothingWindow,
+                              final DoubleFunction< RelativeBandwidth > smoothingProfile ) {
+        // Validate before the lookup, so that a bad request isn't counted as
+        // a miss, nor made to copy its bins only to fail building its kernel.
+        if ( smoothingProfile == null ) {
+            SmoothingUtilities.checkOctaveDivider( octaveDivider );
+        }
+
+        final KernelKey lookupKey = new KernelKey( frequencyBins,
+                                                   numberOfBins,
+                                                   fingerprint,
+                                                   octaveDivider,
+                                                   smoothingWindow,
+                                                   smoothingProfile );
+
+        final Object cachedKernel = kernels.get( lookupKey );
+        if ( cachedKernel != null ) {
+            return cachedKernel;
+        }
+
+        // Raw frequency bins are copied into a grid, as the cached key must
+        // not share the caller's array.
+        final FrequencyGrid kernelFrequencyGrid = ( frequencyGrid != null )
+                                                  ? frequencyGrid
+                                                  : new FrequencyGrid(
+                                                          frequencyBins,
+                                                          numberOfBins );
+        final Object kernel = makeKernel( kernelFrequencyGrid,
+                                          octaveDivider,
+                                          smoothingWindow,
+                                          smoothingProfile );
+
+        final KernelKey cacheKey = new KernelKey(
+                kernelFrequencyGrid.frequencyBins,
+                numberOfBins,
+                fingerprint,
+                octaveDivider,
+                smoothingWindow,
+                smoothingProfile );
+        return kernels.putIfAbsent( cacheKey, kernel );
+    }
+
+    /**
+     * Returns the number of requests that were satisfied by a cached kernel.
+     *
+     * @return The number of cache hits since construction or the last clear
+     */
+    public long getHitCount() {
+        return kernels.getHitCount();
+    }
+
+    /**
+     * Returns the number of requests that required a new kernel to be built.
+     *
+     * @return The number of cache misses since construction or the last clear
+     */
+    public long getMissCount() {
+        return kernels.getMissCount();
+    }
+
+    /**
+     * Returns the number of kernels currently held by the cache.
+     *
+     * @return The number of kernels currently held by the cache
+     */
+    public int size() {
+        return kernels.size();
+    }
+
+    /**
+     * Returns the maximum number of kernels held before evicting the least
+     * recently used kernel.
+     *
+     * @return The capacity of the cache
+     */
+    public int getMaximumNumberOfKernels() {
+        return kernels.getMaximumSize();
+    }
+
+    /**
+     * Removes all kernels from the cache and resets the hit and miss counts.
+     */
+    public void clear() {
+        kernels.clear();
+    }
+
+    // Make a new smoothing kernel of the requested window shape, using the
+    // smoothing profile (if any) in place of the octave divider.
+    private static Object makeKernel( final FrequencyGrid frequencyGrid,
+                                      final int octaveDivider,
+                                      final SmoothingWindow smoothingWindow,
+                                      final DoubleFunction< RelativeBandwidth > smoothingProfile ) {
+        if ( smoothingProfile != null ) {
+            return SmoothingUtilities.makeVariableSmoothingKernel(
+                    frequencyGrid,
+                    smoothingProfile );
+        }
+
+        switch ( smoothingWindow ) {
+            case GAUSSIAN:
+                return SmoothingUtilities.makeSmoothingKernel( frequencyGrid,
+                                                               octaveDivider );
+            case RECTANGULAR:
+                return SmoothingUtilities.makeRectangularSmoothingKernel(
+                        frequencyGrid,
+                        octaveDivider );
+            default:
+                final String errMessage = "Unexpected "
+                                          + smoothingWindow.getClass()
+                                                           .getSimpleName()
+                                          + " " + smoothingWindow;
+                throw new IllegalArgumentException( errMessage );
+        }
+    }
+
+    // Get a 64-bit fingerprint of the frequency bins, which is cheap to compare
+    // and makes a full comparison of the bins necessary only on a likely hit.
+    static long getFingerprint( final double[] frequencyBins,
+                                final int numberOfBins ) {
+        // This is the 64-bit FNV-1a hash, applied to whole IEEE bit patterns.
+        long fingerprint = 0xcbf29ce484222325L;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            fingerprint ^= Double.doubleToLongBits( frequencyBins[ binIndex ] );
+            fingerprint *= 0x100000001b3L;
+        }
+
+        return fingerprint;
+    }
+
+    /**
+     * The key for a cached kernel, which holds a reference to the frequency
+     * bins so that fingerprint collisions can never return the wrong kernel.
+     */
+    private static final class KernelKey {
+
+        private final double[] frequencyBins;
+        private final int numberOfBins;
+        private final long fingerprint;
+        private final int octaveDivider;
+        private final SmoothingWindow smoothingWindow;
+        private final Object smoothingProfile;
+
+        KernelKey( final double[] pFrequencyBins,
+                   final int pNumberOfBins,
+                   final long pFingerprint,
+                   final int pOctaveDivider,
+                   final SmoothingWindow pSmoothingWindow,
+                   final Object pSmoothingProfile ) {
+            frequencyBins = pFrequencyBins;
+            numberOfBins = pNumberOfBins;
+            fingerprint = pFingerprint;
+            octaveDivider = pOctaveDivider;
+            smoothingWindow = pSmoothingWindow;
+            smoothingProfile = pSmoothingProfile;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Long.hashCode( fingerprint );
+            hash = 31 * hash + numberOfBins;
+            hash = 31 * hash + octaveDivider;
+            hash = 31 * hash + smoothingWindow.hashCode();
+            hash = 31 * hash + Objects.hashCode( smoothingProfile );
+            return hash;
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            if ( this == other ) {
+                return true;
+            }
+            if ( !( other instanceof KernelKey ) ) {
+                return false;
+            }
+
+            final KernelKey otherKey = ( KernelKey ) other;
+            return ( fingerprint == otherKey.fingerprint )
+                   && ( numberOfBins == otherKey.numberOfBins )
+                   && ( octaveDivider == otherKey.octaveDivider )
+                   && ( smoothingWindow == otherKey.smoothingWindow )
+                   && Objects.equals( smoothingProfile,
+                                      otherKey.smoothingProfile )
+                   && Arrays.equals( frequencyBins,
+                                     0,
+                                     numberOfBins,
+                                     otherKey.frequencyBins,
+                                     0,
+                                     numberOfBins );
+        }
+    }
+}
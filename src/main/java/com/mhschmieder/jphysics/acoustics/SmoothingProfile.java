@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the jphysics Library
+ *
+ * You should have received a copy of the MIT License along with the jphysics
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/jphysics
+ */
+package com.mhschmieder.jphysics.acoustics;
+
+import java.util.Arrays;
+import java.util.function.DoubleFunction;
+
+/**
+ * An immutable table from frequency to smoothing bandwidth, for smoothing with
+ * a resolution that varies across the spectrum, such as 1/48 octave below
+ * 100 Hz, stepping up to 1/3 octave above 5 kHz.
+ * <p>
+ * The table is a list of bandwidths in order of frequency, separated by the
+ * crossover frequencies at which each bandwidth takes over from the previous
+ * one. As profiles have value semantics, equal profiles share the same cached
+ * kernel in a {@link SmoothingKernelCache}.
+ */
+public final class SmoothingProfile implements DoubleFunction< RelativeBandwidth > {
+
+    // The frequencies (in Hertz) at which each bandwidth after the first one
+    // takes over, in ascending order.
+    private final double[] crossoverFrequencies;
+
+    // The bandwidths in order of frequency, with one more than the number of
+    // crossover frequencies.
+    private final RelativeBandwidth[] relativeBandwidths;
+
+    /**
+     * Constructs a smoothing profile that uses the same bandwidth at all
+     * frequencies.
+     *
+     * @param relativeBandwidth The fractional octave smoothing bandwidth
+     */
+    public SmoothingProfile( final RelativeBandwidth relativeBandwidth ) {
+        this( new double[ 0 ], new RelativeBandwidth[] { relativeBandwidth } );
+    }
+
+    /**
+     * Constructs a smoothing profile from a table of crossover frequencies and
+     * bandwidths, where the first bandwidth applies below the first crossover
+     * frequency, each subsequent bandwidth applies from its preceding crossover
+     * frequency upwards, and the last bandwidth applies up from the last
+     * crossover frequency.
+     *
+     * @param pCrossoverFrequencies The frequencies (in Hertz) at which each
+     *                              bandwidth after the first takes over, in
+     *                              ascending order
+     * @param pRelativeBandwidths The bandwidths in order of frequency, with
+     *                            one more than the crossover frequencies
+     */
+    public SmoothingProfile( final double[] pCrossoverFrequencies,
+                             final RelativeBandwidth[] pRelativeBandwidths ) {
+        if ( pRelativeBandwidths.length != ( pCrossoverFrequencies.length
+                                             + 1 ) ) {
+            throw new IllegalArgumentException(
+                    "Smoothing profile needs one more bandwidth than crossovers" );
+        }
+        for ( int crossoverIndex = 1;
+              crossoverIndex < pCrossoverFrequencies.length;
+              crossoverIndex++ ) {
+            if ( !( pCrossoverFrequencies[ crossoverIndex ]
+                    > pCrossoverFrequencies[ crossoverIndex - 1 ] ) ) {
+                throw new IllegalArgumentException(
+                        "Smoothing profile crossovers must be ascending" );
+            }
+        }
+
+        crossoverFrequencies = pCrossoverFrequencies.clone();
+        relativeBandwidths = pRelativeBandwidths.clone();
+    }
+
+    /**
+     * Returns the smoothing bandwidth at the given frequency.
+     *
+     * @param frequency The frequency (in Hertz) to look up
+     * @return The fractional octave smoothing bandwidth at that frequency
+     */
+    @Override
+    public RelativeBandwidth apply( final double frequency ) {
+        // The bandwidth index is the number of crossovers at or below the
+        // frequency, which is the insertion point when there is no match.
+        final int searchIndex = Arrays.binarySearch( crossoverFrequencies,
+                                                     frequency );
+        final int bandwidthIndex = ( searchIndex >= 0 )
+                                   ? searchIndex + 1
+                                   : -( searchIndex + 1 );
+        return relativeBandwidths[ bandwidthIndex ];
+    }
+
+    @Override
+    public int hashCode() {
+        return ( 31 * Arrays.hashCode( crossoverFrequencies ) )
+               + Arrays.hashCode( relativeBandwidths );
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        if ( this == other ) {
+            return true;
+        }
+        if ( !( other instanceof SmoothingProfile ) ) {
+            return false;
+        }
+
+        final SmoothingProfile otherProfile = ( SmoothingProfile ) other;
+        return Arrays.equals( crossoverFrequencies,
+                              otherProfile.crossoverFrequencies )
+               && Arrays.equals( relativeBandwidths,
+                                 otherProfile.relativeBandwidths );
+    }
+}
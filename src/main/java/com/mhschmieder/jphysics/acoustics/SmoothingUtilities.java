@@ -34,8 +34,27 @@ import com.mhschmieder.jmath.MathConstants;
 import com.mhschmieder.jmath.MathUtilities;
 import org.apache.commons.math3.util.FastMath;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleFunction;
+
 public final class SmoothingUtilities extends Object {
 
+    // The half-width of the fixed smoothing window, in bins, that has always
+    // been used by the jagged smoothing tables. The window spans from this many
+    // bins below the reference bin up to one bin short of this many bins above.
+    private static final int FIXED_WINDOW_HALF_WIDTH_BINS = 15;
+
+    // The Gaussian weight below which taps are excluded from the window of a
+    // smoothing kernel. This is down 60 dB from the reference bin's weight,
+    // so the excluded tail has no visible effect on smoothed results, whereas
+    // the window would be half again as wide (and as costly) at 120 dB down.
+    private static final double WINDOW_EXTENT_WEIGHT_FLOOR = 1.0E-3d;
+
+    // The largest number of taps that a flat kernel can hold, as limited by
+    // the maximum size of a Java array.
+    private static final long MAXIMUM_NUMBER_OF_TAPS = Integer.MAX_VALUE - 8;
+
     /**
      * The default constructor is disabled, as this is a static utilities class
      */
@@ -47,12 +66,12 @@ public final class SmoothingUtilities extends Object {
                                           final int numberOfBins,
                                           final int octaveDivider,
                                           final double[][] smoothingTable ) {
-        // TODO: We only support third octave and sixth octave smoothing, but
-        // the octave divider isn't used here as we merely look up pre-computed
-        // arrays, so either we should make those into static references and
-        // fetch the correct one in this method based on octave divider, or
-        // we should remove that argument from the method parameter list.
-        if ( ( octaveDivider != 6 ) && ( octaveDivider != 3 ) ) {
+        // NOTE: Any fractional octave is supported, as the octave divider
+        //  isn't used here beyond validation; we merely look up the
+        //  pre-computed table. The table is limited to the fixed window
+        //  though, so it truncates the narrower bandwidths on dense grids;
+        //  prefer smoothing kernels, whose extent follows the bandwidth.
+        if ( octaveDivider <= 0 ) {
             return false;
         }
 
@@ -67,11 +86,13 @@ public final class SmoothingUtilities extends Object {
 
             double smoothingRatio = 0.0d;
 
-            int windowLeftEdgeBinIndex = binIndex - 15;
+            int windowLeftEdgeBinIndex = binIndex
+                                         - FIXED_WINDOW_HALF_WIDTH_BINS;
             if ( windowLeftEdgeBinIndex < 0 ) {
                 windowLeftEdgeBinIndex = 0;
             }
-            final int windowRightEdgeBinIndex = binIndex + 15;
+            final int windowRightEdgeBinIndex = binIndex
+                                                + FIXED_WINDOW_HALF_WIDTH_BINS;
 
             int smoothingIndex = 0;
             while ( ( windowLeftEdgeBinIndex < numberOfBins ) && (
@@ -96,31 +117,56 @@ public final class SmoothingUtilities extends Object {
                                             final int numberOfBins,
                                             final double thirdOctaveSmoothingTable[][],
                                             final double sixthOctaveSmoothingTable[][] ) {
-        makeSmoothingTable( frequencyBins,
+        // Take the logarithm of each bin just once, for both tables.
+        final double[] lnFrequencyBins = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            lnFrequencyBins[ binIndex ] = FastMath.log(
+                    frequencyBins[ binIndex ] );
+        }
+
+        makeSmoothingTable( lnFrequencyBins,
                             numberOfBins,
                             thirdOctaveSmoothingTable,
-                            3 );
-        makeSmoothingTable( frequencyBins,
+                            getGaussianWindowWidth( 3 ) );
+        makeSmoothingTable( lnFrequencyBins,
                             numberOfBins,
                             sixthOctaveSmoothingTable,
-                            6 );
+                            getGaussianWindowWidth( 6 ) );
     }
 
     public static void makeSmoothingTable( final double[] frequencyBins,
                                            final int numberOfBins,
                                            final double smoothingTable[][],
                                            final int octaveDivider ) {
-        // First, we need to convert from decibels to linear units.
-        final double powerRatioDb = -6.0d;
-        final double voltageRatio = FrequencySignalUtilities.getVoltageRatio(
-                powerRatioDb );
+        // Take the logarithm of each bin just once, vs. once per tap.
+        final double[] lnFrequencyBins = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            lnFrequencyBins[ binIndex ] = FastMath.log(
+                    frequencyBins[ binIndex ] );
+        }
+
+        makeSmoothingTable( lnFrequencyBins,
+                            numberOfBins,
+                            smoothingTable,
+                            getGaussianWindowWidth( octaveDivider ) );
+    }
+
+    public static void makeSmoothingTable( final FrequencyGrid frequencyGrid,
+                                           final double smoothingTable[][],
+                                           final int octaveDivider ) {
+        makeSmoothingTable( frequencyGrid.getLnFrequencyBins(),
+                            frequencyGrid.getNumberOfBins(),
+                            smoothingTable,
+                            getGaussianWindowWidth( octaveDivider ) );
+    }
 
-        // TODO: Review these variable names relative to usage.
-        final double windowCenter = FastMath.exp(
-                MathConstants.LN2 / ( octaveDivider * 2.0d ) );
-        final double lnWindowCenter = FastMath.log( windowCenter );
-        final double windowWidth = -MathUtilities.sqr( lnWindowCenter )
-                                   / FastMath.log( voltageRatio );
+    // Make a jagged smoothing table from the natural log of every frequency
+    // bin, which may have been cached by a grid, for the given Gaussian
+    // window width.
+    static void makeSmoothingTable( final double[] lnFrequencyBins,
+                                    final int numberOfBins,
+                                    final double smoothingTable[][],
+                                    final double windowWidth ) {
 
         // NOTE: The window's left and right edge bin indices might be
         // incorrectly named and may even be related to the smoothing table's
@@ -129,21 +175,21 @@ public final class SmoothingUtilities extends Object {
         // independent methods vs. passed as arguments or queried at run-time
         // such as using an array's length field.
         for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
-            int windowLeftEdgeBinIndex = binIndex - 15;
+            int windowLeftEdgeBinIndex = binIndex
+                                         - FIXED_WINDOW_HALF_WIDTH_BINS;
             if ( windowLeftEdgeBinIndex < 0 ) {
                 windowLeftEdgeBinIndex = 0;
             }
-            final int windowRightEdgeBinIndex = binIndex + 15;
+            final int windowRightEdgeBinIndex = binIndex
+                                                + FIXED_WINDOW_HALF_WIDTH_BINS;
 
-            final double referenceBin = frequencyBins[ binIndex ];
-            final double lnReferenceBin = FastMath.log( referenceBin );
+            final double lnReferenceBin = lnFrequencyBins[ binIndex ];
 
             int smoothingIndex = 0;
             while ( ( windowLeftEdgeBinIndex < numberOfBins ) && (
                     windowLeftEdgeBinIndex < windowRightEdgeBinIndex ) ) {
-                final double windowBin
-                        = frequencyBins[ windowLeftEdgeBinIndex ];
-                final double lnWindowBin = FastMath.log( windowBin );
+                final double lnWindowBin
+                        = lnFrequencyBins[ windowLeftEdgeBinIndex ];
 
                 final double lnF = lnWindowBin - lnReferenceBin;
 
@@ -158,4 +204,1248 @@ public final class SmoothingUtilities extends Object {
             }
         }
     }
+
+    /**
+     * Smooths a spectrum using a pre-computed flat smoothing kernel.
+     * <p>
+     * The output array is owned by the caller, and nothing is allocated per
+     * call, so this is suitable for smoothing large numbers of spectra that
+     * share a single frequency grid.
+     *
+     * @param in The input spectrum, with at least as many bins as the kernel
+     * @param out The caller-owned output spectrum, with at least as many bins
+     *            as the kernel
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     */
+    public static void gaussianSmooth( final double[] in,
+                                       final double[] out,
+                                       final SmoothingKernel smoothingKernel ) {
+        gaussianSmooth( in, 0, out, 0, smoothingKernel );
+    }
+
+    /**
+     * Smooths a spectrum using a pre-computed flat smoothing kernel, where the
+     * input and output spectra start at arbitrary offsets within their arrays.
+     * <p>
+     * This form allows smoothing directly within channel-major matrices that
+     * store many spectra back to back in one array.
+     *
+     * @param in The input array holding the spectrum to smooth
+     * @param inOffset The index of the first bin of the input spectrum
+     * @param out The caller-owned output array for the smoothed spectrum
+     * @param outOffset The index of the first bin of the output spectrum
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     */
+    public static void gaussianSmooth( final double[] in,
+                                       final int inOffset,
+                                       final double[] out,
+                                       final int outOffset,
+                                       final SmoothingKernel smoothingKernel ) {
+        gaussianSmooth( in,
+                        inOffset,
+                        out,
+                        outOffset,
+                        smoothingKernel,
+                        0,
+                        smoothingKernel.numberOfBins );
+    }
+
+    // Smooth just the given range of output bins, using a pre-computed flat
+    // smoothing kernel. Every other kernel-based Gaussian smoothing routine
+    // uses this one, so that smoothing any subset of the bins gives exactly
+    // the same results as smoothing all of them.
+    static void gaussianSmooth( final double[] in,
+                                final int inOffset,
+                                final double[] out,
+                                final int outOffset,
+                                final SmoothingKernel smoothingKernel,
+                                final int startBinIndex,
+                                final int endBinIndex ) {
+        final int[] firstBinIndices = smoothingKernel.firstBinIndices;
+        final int[] tapOffsets = smoothingKernel.tapOffsets;
+        final int[] numberOfTaps = smoothingKernel.numberOfTaps;
+        final double[] weights = smoothingKernel.weights;
+
+        for ( int binIndex = startBinIndex;
+              binIndex < endBinIndex;
+              binIndex++ ) {
+            final int inStartIndex = inOffset + firstBinIndices[ binIndex ];
+            final int tapOffset = tapOffsets[ binIndex ];
+            final int tapCount = numberOfTaps[ binIndex ];
+
+            double sum = 0.0d;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                sum += weights[ tapOffset + tapIndex ]
+                       * in[ inStartIndex + tapIndex ];
+            }
+
+            out[ outOffset + binIndex ] = sum;
+        }
+    }
+
+    /**
+     * Smooths a single-precision spectrum using a pre-computed flat
+     * single-precision smoothing kernel.
+     * <p>
+     * Each output bin is accumulated in double precision and rounded to a
+     * float once, so the results are as accurate as the float weights allow;
+     * see {@link FloatSmoothingKernel} for the bound against the
+     * double-precision path.
+     *
+     * @param in The input spectrum, with at least as many bins as the kernel
+     * @param out The caller-owned output spectrum, with at least as many bins
+     *            as the kernel
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     */
+    public static void gaussianSmooth( final float[] in,
+                                       final float[] out,
+                                       final FloatSmoothingKernel smoothingKernel ) {
+        gaussianSmooth( in, 0, out, 0, smoothingKernel );
+    }
+
+    /**
+     * Smooths a single-precision spectrum using a pre-computed flat
+     * single-precision smoothing kernel, where the input and output spectra
+     * start at arbitrary offsets within their arrays.
+     *
+     * @param in The input array holding the spectrum to smooth
+     * @param inOffset The index of the first bin of the input spectrum
+     * @param out The caller-owned output array for the smoothed spectrum
+     * @param outOffset The index of the first bin of the output spectrum
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     */
+    public static void gaussianSmooth( final float[] in,
+                                       final int inOffset,
+                                       final float[] out,
+                                       final int outOffset,
+                                       final FloatSmoothingKernel smoothingKernel ) {
+        final int[] firstBinIndices = smoothingKernel.firstBinIndices;
+        final int[] tapOffsets = smoothingKernel.tapOffsets;
+        final int[] numberOfTaps = smoothingKernel.numberOfTaps;
+        final float[] weights = smoothingKernel.weights;
+
+        final int numberOfBins = smoothingKernel.numberOfBins;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final int inStartIndex = inOffset + firstBinIndices[ binIndex ];
+            final int tapOffset = tapOffsets[ binIndex ];
+            final int tapCount = numberOfTaps[ binIndex ];
+
+            double sum = 0.0d;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                sum += weights[ tapOffset + tapIndex ]
+                       * ( double ) in[ inStartIndex + tapIndex ];
+            }
+
+            out[ outOffset + binIndex ] = ( float ) sum;
+        }
+    }
+
+    /**
+     * Makes a flat single-precision smoothing kernel from a double-precision
+     * smoothing kernel, sharing its row layout and halving the footprint of
+     * its weights.
+     *
+     * @param smoothingKernel The double-precision smoothing kernel to derive
+     *                        the single-precision kernel from
+     * @return A new flat single-precision smoothing kernel
+     */
+    public static FloatSmoothingKernel makeFloatSmoothingKernel( final SmoothingKernel smoothingKernel ) {
+        return new FloatSmoothingKernel( smoothingKernel );
+    }
+
+    /**
+     * Smooths many spectra that share a single frequency grid, such as the
+     * channels of a multi-channel measurement, using a pre-computed flat
+     * smoothing kernel, with the work split across the common fork-join pool.
+     * <p>
+     * The results are bit-identical to smoothing each channel serially.
+     *
+     * @param in The input spectra, one array per channel, each with at least
+     *           as many bins as the kernel
+     * @param out The caller-owned output spectra, one array per channel, each
+     *            with at least as many bins as the kernel
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     */
+    public static void gaussianSmoothChannels( final double[][] in,
+                                               final double[][] out,
+                                               final SmoothingKernel smoothingKernel ) {
+        gaussianSmoothChannels( in,
+                                out,
+                                smoothingKernel,
+                                ForkJoinPool.commonPool(),
+                                true );
+    }
+
+    /**
+     * Smooths many spectra that share a single frequency grid, such as the
+     * channels of a multi-channel measurement, using a pre-computed flat
+     * smoothing kernel, with the work split across the supplied fork-join
+     * pool.
+     * <p>
+     * The channels are split into blocks, and when there are fewer channels
+     * than can keep the pool busy, large spectra may also be split by ranges
+     * of bins. Either way, each output bin is computed exactly as it is by the
+     * serial path, so the results are bit-identical to smoothing each channel
+     * serially.
+     *
+     * @param in The input spectra, one array per channel, each with at least
+     *           as many bins as the kernel
+     * @param out The caller-owned output spectra, one array per channel, each
+     *            with at least as many bins as the kernel
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     * @param forkJoinPool The fork-join pool to split the work across
+     * @param splitBins {@code true} if large spectra may be split by ranges of
+     *                  bins; {@code false} if each is smoothed by one thread
+     */
+    public static void gaussianSmoothChannels( final double[][] in,
+                                               final double[][] out,
+                                               final SmoothingKernel smoothingKernel,
+                                               final ForkJoinPool forkJoinPool,
+                                               final boolean splitBins ) {
+        if ( in.length != out.length ) {
+            throw new IllegalArgumentException(
+                    "Number of input and output channels must match" );
+        }
+
+        forkJoinPool.invoke( new GaussianSmoothingTask( in,
+                                                        out,
+                                                        0,
+                                                        smoothingKernel,
+                                                        splitBins,
+                                                        0,
+                                                        in.length,
+                                                        0,
+                                                        smoothingKernel.numberOfBins ) );
+    }
+
+    /**
+     * Smooths many spectra that share a single frequency grid, stored back to
+     * back in a channel-major matrix, using a pre-computed flat smoothing
+     * kernel, with the work split across the common fork-join pool.
+     * <p>
+     * The results are bit-identical to smoothing each channel serially.
+     *
+     * @param in The input matrix, holding each channel's spectrum in turn
+     * @param out The caller-owned output matrix, with the same layout
+     * @param numberOfChannels The number of channels in the matrices
+     * @param channelStride The distance between the first bins of successive
+     *                      channels, which is at least the number of bins in
+     *                      the kernel
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     */
+    public static void gaussianSmoothChannels( final double[] in,
+                                               final double[] out,
+                                               final int numberOfChannels,
+                                               final int channelStride,
+                                               final SmoothingKernel smoothingKernel ) {
+        gaussianSmoothChannels( in,
+                                out,
+                                numberOfChannels,
+                                channelStride,
+                                smoothingKernel,
+                                ForkJoinPool.commonPool(),
+                                true );
+    }
+
+    /**
+     * Smooths many spectra that share a single frequency grid, stored back to
+     * back in a channel-major matrix, using a pre-computed flat smoothing
+     * kernel, with the work split across the supplied fork-join pool.
+     * <p>
+     * The channels are split into blocks, and when there are fewer channels
+     * than can keep the pool busy, large spectra may also be split by ranges
+     * of bins. Either way, each output bin is computed exactly as it is by the
+     * serial path, so the results are bit-identical to smoothing each channel
+     * serially.
+     *
+     * @param in The input matrix, holding each channel's spectrum in turn
+     * @param out The caller-owned output matrix, with the same layout
+     * @param numberOfChannels The number of channels in the matrices
+     * @param channelStride The distance between the first bins of successive
+     *                      channels, which is at least the number of bins in
+     *                      the kernel
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     * @param forkJoinPool The fork-join pool to split the work across
+     * @param splitBins {@code true} if large spectra may be split by ranges of
+     *                  bins; {@code false} if each is smoothed by one thread
+     */
+    public static void gaussianSmoothChannels( final double[] in,
+                                               final double[] out,
+                                               final int numberOfChannels,
+                                               final int channelStride,
+                                               final SmoothingKernel smoothingKernel,
+                                               final ForkJoinPool forkJoinPool,
+                                               final boolean splitBins ) {
+        if ( channelStride < Math.max( 1, smoothingKernel.numberOfBins ) ) {
+            throw new IllegalArgumentException(
+                    "Channel stride must be at least the number of bins" );
+        }
+
+        // NOTE: The matrices are wrapped so that the task can treat them the
+        //  same as channels passed as arrays of their own, with the stride
+        //  telling it to index into the one array.
+        forkJoinPool.invoke( new GaussianSmoothingTask( new double[][] { in },
+                                                        new double[][] { out },
+                                                        channelStride,
+                                                        smoothingKernel,
+                                                        splitBins,
+                                                        0,
+                                                        numberOfChannels,
+                                                        0,
+                                                        smoothingKernel.numberOfBins ) );
+    }
+
+    /**
+     * Smooths a spectrum of decibel magnitudes in the linear power domain,
+     * writing decibel results, in a single fused pass.
+     * <p>
+     * This replaces converting the whole spectrum to power ratios, smoothing,
+     * and converting back, each as a separate pass with its own temporary
+     * array. Each input bin is converted to power just once, the first time
+     * that a window reaches it, into a caller-owned workspace, and each output
+     * bin is converted back to decibels as soon as it has been smoothed.
+     *
+     * @param magnitudeDb The input spectrum, in decibels
+     * @param smoothedMagnitudeDb The caller-owned output spectrum, in decibels
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     * @param powerWorkspace The caller-owned workspace for the power of each
+     *                       input bin, with at least as many bins as the
+     *                       kernel
+     */
+    public static void gaussianSmoothPowerDecibels( final double[] magnitudeDb,
+                                                    final double[] smoothedMagnitudeDb,
+                                                    final SmoothingKernel smoothingKernel,
+                                                    final double[] powerWorkspace ) {
+        final int[] firstBinIndices = smoothingKernel.firstBinIndices;
+        final int[] tapOffsets = smoothingKernel.tapOffsets;
+        final int[] numberOfTaps = smoothingKernel.numberOfTaps;
+        final double[] weights = smoothingKernel.weights;
+
+        // NOTE: Every bin below this index has already been converted, so
+        //  each window converts only the bins beyond the furthest reach of
+        //  all previous windows.
+        int convertedBinIndex = 0;
+
+        final int numberOfBins = smoothingKernel.numberOfBins;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final int firstBinIndex = firstBinIndices[ binIndex ];
+            final int tapOffset = tapOffsets[ binIndex ];
+            final int tapCount = numberOfTaps[ binIndex ];
+
+            final int windowEndBinIndex = firstBinIndex + tapCount;
+            while ( convertedBinIndex < windowEndBinIndex ) {
+                powerWorkspace[ convertedBinIndex ] = FastMath.exp(
+                        magnitudeDb[ convertedBinIndex ]
+                        * FrequencySignalUtilities.DECIBELS_TO_LN_POWER );
+                convertedBinIndex++;
+            }
+
+            double sum = 0.0d;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                sum += weights[ tapOffset + tapIndex ]
+                       * powerWorkspace[ firstBinIndex + tapIndex ];
+            }
+
+            smoothedMagnitudeDb[ binIndex ] = 10.0d * FastMath.log10( sum );
+        }
+    }
+
+    /**
+     * Smooths a complex spectrum, given as decibel magnitudes and phases in
+     * degrees, in the complex (real and imaginary) domain, writing decibel
+     * magnitudes and phases in degrees, in a single fused pass.
+     * <p>
+     * Each input bin is converted to real and imaginary parts just once, the
+     * first time that a window reaches it, into caller-owned workspaces, and
+     * each output bin is converted back to magnitude and phase as soon as it
+     * has been smoothed. The output phase is wrapped to [-180, +180] degrees.
+     *
+     * @param magnitudeDb The input magnitude spectrum, in decibels
+     * @param phaseDegrees The input phase spectrum, in degrees
+     * @param smoothedMagnitudeDb The caller-owned output magnitude spectrum,
+     *                            in decibels
+     * @param smoothedPhaseDegrees The caller-owned output phase spectrum, in
+     *                             degrees
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     * @param realWorkspace The caller-owned workspace for the real part of
+     *                      each input bin, with at least as many bins as the
+     *                      kernel
+     * @param imaginaryWorkspace The caller-owned workspace for the imaginary
+     *                           part of each input bin, with at least as many
+     *                           bins as the kernel
+     */
+    public static void gaussianSmoothComplexDecibels( final double[] magnitudeDb,
+                                                      final double[] phaseDegrees,
+                                                      final double[] smoothedMagnitudeDb,
+                                                      final double[] smoothedPhaseDegrees,
+                                                      final SmoothingKernel smoothingKernel,
+                                                      final double[] realWorkspace,
+                                                      final double[] imaginaryWorkspace ) {
+        final int[] firstBinIndices = smoothingKernel.firstBinIndices;
+        final int[] tapOffsets = smoothingKernel.tapOffsets;
+        final int[] numberOfTaps = smoothingKernel.numberOfTaps;
+        final double[] weights = smoothingKernel.weights;
+
+        // NOTE: Every bin below this index has already been converted, so
+        //  each window converts only the bins beyond the furthest reach of
+        //  all previous windows.
+        int convertedBinIndex = 0;
+
+        final int numberOfBins = smoothingKernel.numberOfBins;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final int firstBinIndex = firstBinIndices[ binIndex ];
+            final int tapOffset = tapOffsets[ binIndex ];
+            final int tapCount = numberOfTaps[ binIndex ];
+
+            final int windowEndBinIndex = firstBinIndex + tapCount;
+            while ( convertedBinIndex < windowEndBinIndex ) {
+                final double magnitude = FastMath.exp(
+                        magnitudeDb[ convertedBinIndex ]
+                        * FrequencySignalUtilities.DECIBELS_TO_LN_MAGNITUDE );
+                final double phaseRadians = FastMath.toRadians(
+                        phaseDegrees[ convertedBinIndex ] );
+                realWorkspace[ convertedBinIndex ] = magnitude
+                                                     * FastMath.cos(
+                        phaseRadians );
+                imaginaryWorkspace[ convertedBinIndex ] = magnitude
+                                                          * FastMath.sin(
+                        phaseRadians );
+                convertedBinIndex++;
+            }
+
+            double realSum = 0.0d;
+            double imaginarySum = 0.0d;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                final double weight = weights[ tapOffset + tapIndex ];
+                realSum += weight * realWorkspace[ firstBinIndex + tapIndex ];
+                imaginarySum += weight * imaginaryWorkspace[ firstBinIndex
+                                                             + tapIndex ];
+            }
+
+            // NOTE: The power is the squared magnitude, so we can take ten
+            //  times its logarithm and avoid a square root.
+            smoothedMagnitudeDb[ binIndex ] = 10.0d * FastMath.log10(
+                    ( realSum * realSum ) + ( imaginarySum * imaginarySum ) );
+            smoothedPhaseDegrees[ binIndex ] = FastMath.toDegrees(
+                    FastMath.atan2( imaginarySum, realSum ) );
+        }
+    }
+
+    /**
+     * Smooths a spectrum with each tap weighted by the coherence of its bin,
+     * blanking any output bin whose weighted coherence is below a threshold,
+     * in a single fused pass.
+     * <p>
+     * This replaces smoothing the spectrum and then blanking low-coherence
+     * bins as separate passes. Each row of the kernel is renormalized by its
+     * coherence-weighted sum, so that bins with poor coherence contribute less
+     * to the smoothed result without biasing it towards zero. As the rows of
+     * the kernel are pre-normalized, the weighted coherence is the kernel's
+     * weighted average of the coherence over the window.
+     *
+     * @param in The input spectrum, with at least as many bins as the kernel
+     * @param coherence The coherence of each input bin, from zero to one
+     * @param out The caller-owned output spectrum, with at least as many bins
+     *            as the kernel, where blanked bins are set to {@code NaN}
+     * @param smoothingKernel The pre-computed smoothing kernel to apply
+     * @param coherenceThreshold The weighted coherence below which an output
+     *                           bin is blanked
+     */
+    public static void coherenceWeightedSmooth( final double[] in,
+                                                final double[] coherence,
+                                                final double[] out,
+                                                final SmoothingKernel smoothingKernel,
+                                                final double coherenceThreshold ) {
+        final int[] firstBinIndices = smoothingKernel.firstBinIndices;
+        final int[] tapOffsets = smoothingKernel.tapOffsets;
+        final int[] numberOfTaps = smoothingKernel.numberOfTaps;
+        final double[] weights = smoothingKernel.weights;
+
+        final int numberOfBins = smoothingKernel.numberOfBins;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final int firstBinIndex = firstBinIndices[ binIndex ];
+            final int tapOffset = tapOffsets[ binIndex ];
+            final int tapCount = numberOfTaps[ binIndex ];
+
+            double sum = 0.0d;
+            double coherenceSum = 0.0d;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                final double weight = weights[ tapOffset + tapIndex ]
+                                      * coherence[ firstBinIndex + tapIndex ];
+                sum += weight * in[ firstBinIndex + tapIndex ];
+                coherenceSum += weight;
+            }
+
+            // NOTE: The threshold test is written so that a NaN coherence,
+            //  or a window with no coherence at all, also blanks the bin.
+            if ( ( coherenceSum > 0.0d )
+                    && ( coherenceSum >= coherenceThreshold ) ) {
+                out[ binIndex ] = sum / coherenceSum;
+            }
+            else {
+                out[ binIndex ] = Double.NaN;
+            }
+        }
+    }
+
+    /**
+     * Makes a flat Gaussian smoothing kernel for the supplied frequency bins,
+     * using the same window shape as {@link #makeSmoothingTable}, but with each
+     * row pre-normalized.
+     * <p>
+     * Unlike the fixed window of the jagged smoothing tables, the extent of
+     * each row's window is derived from the -6 dB bandwidth and the actual
+     * spacing of the frequency bins around the reference bin, so that dense
+     * FFT grids get the full Gaussian rather than a truncated one, and sparse
+     * grids don't waste taps on negligible weights.
+     * <p>
+     * Bins at or below zero Hertz can't be placed on a logarithmic frequency
+     * axis, so they are passed through unsmoothed.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param relativeBandwidth The fractional octave smoothing bandwidth
+     * @return A new flat Gaussian smoothing kernel
+     * @throws IllegalArgumentException if the bandwidth is so wide relative to
+     *         the bin spacing that the kernel exceeds the maximum array size
+     */
+    public static SmoothingKernel makeSmoothingKernel( final double[] frequencyBins,
+                                                       final int numberOfBins,
+                                                       final RelativeBandwidth relativeBandwidth ) {
+        return makeSmoothingKernel( frequencyBins,
+                                    numberOfBins,
+                                    relativeBandwidth.toOctaveDivider() );
+    }
+
+    /**
+     * Makes a flat Gaussian smoothing kernel for the supplied frequency bins,
+     * using the same window shape as {@link #makeSmoothingTable}, but with each
+     * row pre-normalized.
+     * <p>
+     * Unlike the fixed window of the jagged smoothing tables, the extent of
+     * each row's window is derived from the -6 dB bandwidth and the actual
+     * spacing of the frequency bins around the reference bin, so that dense
+     * FFT grids get the full Gaussian rather than a truncated one, and sparse
+     * grids don't waste taps on negligible weights.
+     * <p>
+     * Bins at or below zero Hertz can't be placed on a logarithmic frequency
+     * axis, so they are passed through unsmoothed.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param octaveDivider The octave divider for the smoothing bandwidth
+     * @return A new flat Gaussian smoothing kernel
+     * @throws IllegalArgumentException if the octave divider is not positive,
+     *         or if the bandwidth is so wide relative to the bin spacing that
+     *         the kernel exceeds the maximum array size
+     */
+    public static SmoothingKernel makeSmoothingKernel( final double[] frequencyBins,
+                                                       final int numberOfBins,
+                                                       final int octaveDivider ) {
+        // Take the logarithm of each bin just once, vs. once per tap.
+        final double[] lnFrequencyBins = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            lnFrequencyBins[ binIndex ] = FastMath.log(
+                    frequencyBins[ binIndex ] );
+        }
+
+        return makeSmoothingKernel( lnFrequencyBins,
+                                    numberOfBins,
+                                    getGaussianWindowWidth( octaveDivider ),
+                                    WINDOW_EXTENT_WEIGHT_FLOOR );
+    }
+
+    /**
+     * Makes a flat Gaussian smoothing kernel for the supplied frequency grid,
+     * reusing the grid's cached natural log of each bin.
+     *
+     * @param frequencyGrid The frequency grid to smooth over
+     * @param relativeBandwidth The fractional octave smoothing bandwidth
+     * @return A new flat Gaussian smoothing kernel
+     * @throws IllegalArgumentException if the bandwidth is so wide relative to
+     *         the bin spacing that the kernel exceeds the maximum array size
+     */
+    public static SmoothingKernel makeSmoothingKernel( final FrequencyGrid frequencyGrid,
+                                                       final RelativeBandwidth relativeBandwidth ) {
+        return makeSmoothingKernel( frequencyGrid,
+                                    relativeBandwidth.toOctaveDivider() );
+    }
+
+    /**
+     * Makes a flat Gaussian smoothing kernel for the supplied frequency grid,
+     * reusing the grid's cached natural log of each bin.
+     *
+     * @param frequencyGrid The frequency grid to smooth over
+     * @param octaveDivider The octave divider for the smoothing bandwidth
+     * @return A new flat Gaussian smoothing kernel
+     * @throws IllegalArgumentException if the octave divider is not positive,
+     *         or if the bandwidth is so wide relative to the bin spacing that
+     *         the kernel exceeds the maximum array size
+     */
+    public static SmoothingKernel makeSmoothingKernel( final FrequencyGrid frequencyGrid,
+                                                       final int octaveDivider ) {
+        return makeSmoothingKernel( frequencyGrid.getLnFrequencyBins(),
+                                    frequencyGrid.getNumberOfBins(),
+                                    getGaussianWindowWidth( octaveDivider ),
+                                    WINDOW_EXTENT_WEIGHT_FLOOR );
+    }
+
+    /**
+     * Makes a flat Gaussian smoothing kernel for the supplied frequency bins,
+     * where each row is trimmed to the taps whose weight is at least the given
+     * fraction of the weight of the reference bin.
+     * <p>
+     * As the Gaussian falls off monotonically to either side of the reference
+     * bin, this is equivalent to narrowing the window extent, so the trimmed
+     * taps are never even computed. A threshold of 1.0E-3 (-60 dB) is what
+     * {@link #makeSmoothingKernel(double[], int, int)} uses; coarser
+     * thresholds save memory and multiplies in proportion, at the cost of
+     * slightly heavier tails in the result.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param octaveDivider The octave divider for the smoothing bandwidth
+     * @param weightThreshold The fraction of the reference bin's weight below
+     *                        which taps are trimmed, between zero and one
+     * @return A new flat Gaussian smoothing kernel
+     * @throws IllegalArgumentException if the octave divider is not positive,
+     *         if the weight threshold is not above zero and at most one, or if
+     *         the bandwidth is so wide relative to the bin spacing that the
+     *         kernel exceeds the maximum array size
+     */
+    public static SmoothingKernel makeSmoothingKernel( final double[] frequencyBins,
+                                                       final int numberOfBins,
+                                                       final int octaveDivider,
+                                                       final double weightThreshold ) {
+        if ( !( weightThreshold > 0.0d ) || ( weightThreshold > 1.0d ) ) {
+            throw new IllegalArgumentException(
+                    "Weight threshold must be above zero and at most one" );
+        }
+
+        final double[] lnFrequencyBins = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            lnFrequencyBins[ binIndex ] = FastMath.log(
+                    frequencyBins[ binIndex ] );
+        }
+
+        return makeSmoothingKernel( lnFrequencyBins,
+                                    numberOfBins,
+                                    getGaussianWindowWidth( octaveDivider ),
+                                    weightThreshold );
+    }
+
+    /**
+     * Trims each row of a smoothing kernel to the taps whose weight is at
+     * least the given fraction of the row's largest weight, and renormalizes
+     * the remaining taps.
+     * <p>
+     * Only leading and trailing taps are trimmed, so that every row remains a
+     * contiguous run of input bins; for unimodal windows such as the Gaussian,
+     * this removes every tap below the threshold. The rows of the trimmed
+     * kernel are packed back to back, so it can be used with any routine that
+     * accepts a smoothing kernel.
+     *
+     * @param smoothingKernel The smoothing kernel to trim
+     * @param weightThreshold The fraction of each row's largest weight below
+     *                        which taps are trimmed, between zero and one
+     * @return A new smoothing kernel with the negligible taps trimmed
+     */
+    public static SmoothingKernel trimSmoothingKernel( final SmoothingKernel smoothingKernel,
+                                                       final double weightThreshold ) {
+        if ( !( weightThreshold >= 0.0d ) || ( weightThreshold > 1.0d ) ) {
+            throw new IllegalArgumentException(
+                    "Weight threshold must be between zero and one" );
+        }
+
+        final int numberOfBins = smoothingKernel.numberOfBins;
+        final int[] firstBinIndices = smoothingKernel.firstBinIndices;
+        final int[] tapOffsets = smoothingKernel.tapOffsets;
+        final int[] numberOfTaps = smoothingKernel.numberOfTaps;
+        final double[] weights = smoothingKernel.weights;
+
+        final int[] trimmedFirstBinIndices = new int[ numberOfBins ];
+        final int[] trimmedTapOffsets = new int[ numberOfBins ];
+        final int[] trimmedNumberOfTaps = new int[ numberOfBins ];
+        final int[] leadingTapCounts = new int[ numberOfBins ];
+
+        // Find the surviving run of taps in each row, so that we know the
+        // total number of taps before copying any weights.
+        int totalNumberOfTaps = 0;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final int tapOffset = tapOffsets[ binIndex ];
+            final int tapCount = numberOfTaps[ binIndex ];
+
+            double maximumWeight = 0.0d;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                maximumWeight = FastMath.max( maximumWeight,
+                                              weights[ tapOffset + tapIndex ] );
+            }
+            final double minimumWeight = weightThreshold * maximumWeight;
+
+            int firstTapIndex = 0;
+            while ( ( firstTapIndex < ( tapCount - 1 ) )
+                    && ( weights[ tapOffset + firstTapIndex ]
+                         < minimumWeight ) ) {
+                firstTapIndex++;
+            }
+            int lastTapIndex = tapCount - 1;
+            while ( ( lastTapIndex > firstTapIndex )
+                    && ( weights[ tapOffset + lastTapIndex ]
+                         < minimumWeight ) ) {
+                lastTapIndex--;
+            }
+
+            leadingTapCounts[ binIndex ] = firstTapIndex;
+            trimmedFirstBinIndices[ binIndex ] = firstBinIndices[ binIndex ]
+                                                 + firstTapIndex;
+            trimmedTapOffsets[ binIndex ] = totalNumberOfTaps;
+            trimmedNumberOfTaps[ binIndex ] = ( tapCount > 0 )
+                                              ? ( lastTapIndex - firstTapIndex )
+                                                + 1
+                                              : 0;
+            totalNumberOfTaps += trimmedNumberOfTaps[ binIndex ];
+        }
+
+        // Copy the surviving taps of each row, and renormalize them.
+        final double[] trimmedWeights = new double[ totalNumberOfTaps ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final int tapOffset = tapOffsets[ binIndex ]
+                                  + leadingTapCounts[ binIndex ];
+            final int trimmedTapOffset = trimmedTapOffsets[ binIndex ];
+            final int tapCount = trimmedNumberOfTaps[ binIndex ];
+
+            double weightSum = 0.0d;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                weightSum += weights[ tapOffset + tapIndex ];
+            }
+            final double weightScale = ( weightSum > 0.0d )
+                                       ? 1.0d / weightSum
+                                       : 1.0d;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                trimmedWeights[ trimmedTapOffset + tapIndex ]
+                        = weights[ tapOffset + tapIndex ] * weightScale;
+            }
+        }
+
+        return new SmoothingKernel( numberOfBins,
+                                    trimmedFirstBinIndices,
+                                    trimmedTapOffsets,
+                                    trimmedNumberOfTaps,
+                                    trimmedWeights );
+    }
+
+    /**
+     * Makes a flat Gaussian smoothing kernel for the supplied frequency bins,
+     * where the smoothing bandwidth varies with frequency according to the
+     * given profile, such as finer smoothing at low frequencies and coarser
+     * smoothing at high frequencies, or a psychoacoustic profile.
+     * <p>
+     * Every row is shaped and normalized for the bandwidth at its own
+     * reference bin, so a single pass gives the variable resolution without
+     * any seams from splicing together several fixed-bandwidth passes.
+     * <p>
+     * Bins at or below zero Hertz can't be placed on a logarithmic frequency
+     * axis, so they are passed through unsmoothed.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param smoothingProfile The function from frequency (in Hertz) to the
+     *                         fractional octave smoothing bandwidth, such as a
+     *                         {@link SmoothingProfile} table
+     * @return A new flat Gaussian smoothing kernel
+     * @throws IllegalArgumentException if the bandwidth is so wide relative to
+     *         the bin spacing that the kernel exceeds the maximum array size
+     */
+    public static SmoothingKernel makeVariableSmoothingKernel( final double[] frequencyBins,
+                                                               final int numberOfBins,
+                                                               final DoubleFunction< RelativeBandwidth > smoothingProfile ) {
+        final double[] lnFrequencyBins = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            lnFrequencyBins[ binIndex ] = FastMath.log(
+                    frequencyBins[ binIndex ] );
+        }
+
+        return makeVariableSmoothingKernel( frequencyBins,
+                                            lnFrequencyBins,
+                                            numberOfBins,
+                                            smoothingProfile );
+    }
+
+    /**
+     * Makes a flat Gaussian smoothing kernel for the supplied frequency grid,
+     * where the smoothing bandwidth varies with frequency per the supplied
+     * smoothing profile, reusing the grid's cached natural log of each bin.
+     *
+     * @param frequencyGrid The frequency grid to smooth over
+     * @param smoothingProfile The function from frequency (in Hertz) to the
+     *                         fractional octave smoothing bandwidth
+     * @return A new flat Gaussian smoothing kernel
+     * @throws IllegalArgumentException if a bandwidth is so wide relative to
+     *         the bin spacing that the kernel exceeds the maximum array size
+     */
+    public static SmoothingKernel makeVariableSmoothingKernel( final FrequencyGrid frequencyGrid,
+                                                               final DoubleFunction< RelativeBandwidth > smoothingProfile ) {
+        return makeVariableSmoothingKernel( frequencyGrid.frequencyBins,
+                                            frequencyGrid.getLnFrequencyBins(),
+                                            frequencyGrid.getNumberOfBins(),
+                                            smoothingProfile );
+    }
+
+    // Make a variable smoothing kernel from the frequency bins along with the
+    // natural log of every bin, which may have been cached by a grid.
+    static SmoothingKernel makeVariableSmoothingKernel( final double[] frequencyBins,
+                                                        final double[] lnFrequencyBins,
+                                                        final int numberOfBins,
+                                                        final DoubleFunction< RelativeBandwidth > smoothingProfile ) {
+        // There are only a handful of bandwidths, so we compute the window
+        // width for each of them up front rather than once per bin.
+        final RelativeBandwidth[] relativeBandwidths
+                = RelativeBandwidth.values();
+        final double[] bandwidthWindowWidths
+                = new double[ relativeBandwidths.length ];
+        for ( final RelativeBandwidth relativeBandwidth : relativeBandwidths ) {
+            bandwidthWindowWidths[ relativeBandwidth.ordinal() ]
+                    = getGaussianWindowWidth(
+                    relativeBandwidth.toOctaveDivider() );
+        }
+
+        final double[] windowWidths = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            windowWidths[ binIndex ] = bandwidthWindowWidths[ smoothingProfile
+                    .apply( frequencyBins[ binIndex ] ).ordinal() ];
+        }
+
+        return makeSmoothingKernel( lnFrequencyBins,
+                                    numberOfBins,
+                                    windowWidths,
+                                    WINDOW_EXTENT_WEIGHT_FLOOR );
+    }
+
+    // Make a flat Gaussian smoothing kernel from the natural log of every
+    // frequency bin, with the window extent of each row set to where the
+    // Gaussian falls below the given fraction of the reference bin's weight.
+    static SmoothingKernel makeSmoothingKernel( final double[] lnFrequencyBins,
+                                                final int numberOfBins,
+                                                final double windowWidth,
+                                                final double weightThreshold ) {
+        final double[] windowWidths = new double[ numberOfBins ];
+        Arrays.fill( windowWidths, windowWidth );
+
+        return makeSmoothingKernel( lnFrequencyBins,
+                                    numberOfBins,
+                                    windowWidths,
+                                    weightThreshold );
+    }
+
+    // Make a flat Gaussian smoothing kernel from the natural log of every
+    // frequency bin and the window width for each row, with the window extent
+    // of each row set to where its Gaussian falls below the given fraction of
+    // the reference bin's weight.
+    static SmoothingKernel makeSmoothingKernel( final double[] lnFrequencyBins,
+                                                final int numberOfBins,
+                                                final double[] windowWidths,
+                                                final double weightThreshold ) {
+        final int[] firstBinIndices = new int[ numberOfBins ];
+        final int[] tapOffsets = new int[ numberOfBins ];
+        final int[] numberOfTaps = new int[ numberOfBins ];
+
+        // Lay out the rows back to back so that we know the total number of
+        // taps. As the bins are in ascending order, both window edges move
+        // to the right as the reference bin does, except where the window
+        // widens faster than the bins advance, so each edge starts its search
+        // from where it was for the previous row.
+        long totalNumberOfTaps = 0L;
+        int windowLeftEdgeBinIndex = 0;
+        int windowRightEdgeBinIndex = 0;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double lnReferenceBin = lnFrequencyBins[ binIndex ];
+            if ( lnReferenceBin > Double.NEGATIVE_INFINITY ) {
+                final double lnWindowExtent = getGaussianWindowExtent(
+                        windowWidths[ binIndex ],
+                        weightThreshold );
+
+                final double lnLowerEdge = lnReferenceBin - lnWindowExtent;
+                while ( ( windowLeftEdgeBinIndex > 0 )
+                        && ( lnFrequencyBins[ windowLeftEdgeBinIndex - 1 ]
+                             >= lnLowerEdge ) ) {
+                    windowLeftEdgeBinIndex--;
+                }
+                while ( lnFrequencyBins[ windowLeftEdgeBinIndex ]
+                        < lnLowerEdge ) {
+                    windowLeftEdgeBinIndex++;
+                }
+
+                final double lnUpperEdge = lnReferenceBin + lnWindowExtent;
+                windowRightEdgeBinIndex = FastMath.max(
+                        windowRightEdgeBinIndex, binIndex + 1 );
+                while ( ( windowRightEdgeBinIndex > ( binIndex + 1 ) )
+                        && ( lnFrequencyBins[ windowRightEdgeBinIndex - 1 ]
+                             > lnUpperEdge ) ) {
+                    windowRightEdgeBinIndex--;
+                }
+                while ( ( windowRightEdgeBinIndex < numberOfBins )
+                        && ( lnFrequencyBins[ windowRightEdgeBinIndex ]
+                             <= lnUpperEdge ) ) {
+                    windowRightEdgeBinIndex++;
+                }
+
+                firstBinIndices[ binIndex ] = windowLeftEdgeBinIndex;
+                numberOfTaps[ binIndex ] = windowRightEdgeBinIndex
+                                           - windowLeftEdgeBinIndex;
+            }
+            else {
+                firstBinIndices[ binIndex ] = binIndex;
+                numberOfTaps[ binIndex ] = 1;
+            }
+
+            tapOffsets[ binIndex ] = ( int ) totalNumberOfTaps;
+            totalNumberOfTaps += numberOfTaps[ binIndex ];
+            if ( totalNumberOfTaps > MAXIMUM_NUMBER_OF_TAPS ) {
+                throw new IllegalArgumentException(
+                        "Smoothing bandwidth is too wide for a direct kernel"
+                        + " on a frequency grid of " + numberOfBins
+                        + " bins" );
+            }
+        }
+
+        final double[] weights = new double[ ( int ) totalNumberOfTaps ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            if ( lnFrequencyBins[ binIndex ] > Double.NEGATIVE_INFINITY ) {
+                fillGaussianRow( lnFrequencyBins,
+                                 binIndex,
+                                 firstBinIndices[ binIndex ],
+                                 numberOfTaps[ binIndex ],
+                                 windowWidths[ binIndex ],
+                                 weights,
+                                 tapOffsets[ binIndex ] );
+            }
+            else {
+                weights[ tapOffsets[ binIndex ] ] = 1.0d;
+            }
+        }
+
+        return new SmoothingKernel( numberOfBins,
+                                    firstBinIndices,
+                                    tapOffsets,
+                                    numberOfTaps,
+                                    weights );
+    }
+
+    /**
+     * Smooths a spectrum using a rectangular (boxcar) fractional octave
+     * kernel, where each output bin is the average of the input bins within
+     * its band.
+     * <p>
+     * The average is taken as the difference of two cumulative sums, so each
+     * output bin costs the same no matter how wide its band is. The cumulative
+     * sums are written to a caller-owned workspace, so nothing is allocated
+     * per call.
+     * <p>
+     * As the cumulative sums grow across the whole spectrum, the absolute
+     * rounding error of each average is relative to the total of the input,
+     * so this is best suited to decibel data, or to linear data without an
+     * extreme dynamic range across the spectrum.
+     * <p>
+     * Non-finite input bins (such as NaN for blanked bins) are kept out of the
+     * cumulative sums and counted separately instead, so that, as with the
+     * direct kernels, only the output bins whose bands contain them are NaN.
+     *
+     * @param in The input spectrum, with at least as many bins as the kernel
+     * @param out The caller-owned output spectrum, with at least as many bins
+     *            as the kernel
+     * @param smoothingKernel The pre-computed rectangular smoothing kernel
+     * @param cumulativeSums The caller-owned workspace for the cumulative
+     *                       sums, with at least one more bin than the kernel
+     * @param nonFiniteCounts The caller-owned workspace for the cumulative
+     *                        counts of non-finite bins, with at least one more
+     *                        bin than the kernel
+     */
+    public static void rectangularSmooth( final double[] in,
+                                          final double[] out,
+                                          final RectangularSmoothingKernel smoothingKernel,
+                                          final double[] cumulativeSums,
+                                          final int[] nonFiniteCounts ) {
+        rectangularSmooth( in,
+                           0,
+                           out,
+                           0,
+                           smoothingKernel,
+                           cumulativeSums,
+                           nonFiniteCounts );
+    }
+
+    /**
+     * Smooths a spectrum using a rectangular (boxcar) fractional octave
+     * kernel, where the input and output spectra start at arbitrary offsets
+     * within their arrays.
+     *
+     * @param in The input array holding the spectrum to smooth
+     * @param inOffset The index of the first bin of the input spectrum
+     * @param out The caller-owned output array for the smoothed spectrum
+     * @param outOffset The index of the first bin of the output spectrum
+     * @param smoothingKernel The pre-computed rectangular smoothing kernel
+     * @param cumulativeSums The caller-owned workspace for the cumulative
+     *                       sums, with at least one more bin than the kernel
+     * @param nonFiniteCounts The caller-owned workspace for the cumulative
+     *                        counts of non-finite bins, with at least one more
+     *                        bin than the kernel
+     */
+    public static void rectangularSmooth( final double[] in,
+                                          final int inOffset,
+                                          final double[] out,
+                                          final int outOffset,
+                                          final RectangularSmoothingKernel smoothingKernel,
+                                          final double[] cumulativeSums,
+                                          final int[] nonFiniteCounts ) {
+        final int numberOfBins = smoothingKernel.numberOfBins;
+
+        // The cumulative sum at each index is the sum of all prior finite
+        // bins, and the cumulative count is the number of prior non-finite
+        // bins, which would otherwise poison every sum from there on.
+        double sum = 0.0d;
+        int nonFiniteCount = 0;
+        cumulativeSums[ 0 ] = sum;
+        nonFiniteCounts[ 0 ] = nonFiniteCount;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double value = in[ inOffset + binIndex ];
+            if ( Double.isFinite( value ) ) {
+                sum += value;
+            }
+            else {
+                nonFiniteCount++;
+            }
+            cumulativeSums[ binIndex + 1 ] = sum;
+            nonFiniteCounts[ binIndex + 1 ] = nonFiniteCount;
+        }
+
+        final int[] lowerBinIndices = smoothingKernel.lowerBinIndices;
+        final int[] upperBinIndices = smoothingKernel.upperBinIndices;
+        final double[] bandScales = smoothingKernel.bandScales;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final int lowerBinIndex = lowerBinIndices[ binIndex ];
+            final int upperBinIndex = upperBinIndices[ binIndex ];
+            out[ outOffset + binIndex ] = ( nonFiniteCounts[ upperBinIndex ]
+                    != nonFiniteCounts[ lowerBinIndex ] )
+                    ? Double.NaN
+                    : ( cumulativeSums[ upperBinIndex ]
+                        - cumulativeSums[ lowerBinIndex ] )
+                      * bandScales[ binIndex ];
+        }
+    }
+
+    /**
+     * Makes a rectangular (boxcar) fractional octave smoothing kernel for the
+     * supplied frequency bins, where the band of each output bin spans half of
+     * the fractional octave to either side of it.
+     * <p>
+     * Bins at or below zero Hertz can't be placed on a logarithmic frequency
+     * axis, so they are passed through unsmoothed.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param relativeBandwidth The fractional octave smoothing bandwidth
+     * @return A new rectangular smoothing kernel
+     */
+    public static RectangularSmoothingKernel makeRectangularSmoothingKernel( final double[] frequencyBins,
+                                                                             final int numberOfBins,
+                                                                             final RelativeBandwidth relativeBandwidth ) {
+        return makeRectangularSmoothingKernel(
+                frequencyBins,
+                numberOfBins,
+                relativeBandwidth.toOctaveDivider() );
+    }
+
+    /**
+     * Makes a rectangular (boxcar) fractional octave smoothing kernel for the
+     * supplied frequency bins, where the band of each output bin spans half of
+     * the fractional octave to either side of it.
+     * <p>
+     * Bins at or below zero Hertz can't be placed on a logarithmic frequency
+     * axis, so they are passed through unsmoothed.
+     *
+     * @param frequencyBins The frequency (in Hertz) of each bin, in ascending
+     *                      order
+     * @param numberOfBins The number of bins to include in the kernel
+     * @param octaveDivider The octave divider for the smoothing bandwidth
+     * @return A new rectangular smoothing kernel
+     * @throws IllegalArgumentException if the octave divider is not positive
+     */
+    public static RectangularSmoothingKernel makeRectangularSmoothingKernel( final double[] frequencyBins,
+                                                                             final int numberOfBins,
+                                                                             final int octaveDivider ) {
+        final double[] lnFrequencyBins = new double[ numberOfBins ];
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            lnFrequencyBins[ binIndex ] = FastMath.log(
+                    frequencyBins[ binIndex ] );
+        }
+
+        return makeRectangularSmoothingKernel(
+                lnFrequencyBins,
+                numberOfBins,
+                getRectangularBandHalfWidth( octaveDivider ) );
+    }
+
+    /**
+     * Makes a rectangular (boxcar) fractional octave smoothing kernel for the
+     * supplied frequency grid, reusing the grid's cached natural log of each
+     * bin.
+     *
+     * @param frequencyGrid The frequency grid to smooth over
+     * @param relativeBandwidth The fractional octave smoothing bandwidth
+     * @return A new rectangular smoothing kernel
+     */
+    public static RectangularSmoothingKernel makeRectangularSmoothingKernel( final FrequencyGrid frequencyGrid,
+                                                                             final RelativeBandwidth relativeBandwidth ) {
+        return makeRectangularSmoothingKernel(
+                frequencyGrid,
+                relativeBandwidth.toOctaveDivider() );
+    }
+
+    /**
+     * Makes a rectangular (boxcar) fractional octave smoothing kernel for the
+     * supplied frequency grid, reusing the grid's cached natural log of each
+     * bin.
+     *
+     * @param frequencyGrid The frequency grid to smooth over
+     * @param octaveDivider The octave divider for the smoothing bandwidth
+     * @return A new rectangular smoothing kernel
+     * @throws IllegalArgumentException if the octave divider is not positive
+     */
+    public static RectangularSmoothingKernel makeRectangularSmoothingKernel( final FrequencyGrid frequencyGrid,
+                                                                             final int octaveDivider ) {
+        return makeRectangularSmoothingKernel(
+                frequencyGrid.getLnFrequencyBins(),
+                frequencyGrid.getNumberOfBins(),
+                getRectangularBandHalfWidth( octaveDivider ) );
+    }
+
+    // Make a rectangular smoothing kernel from the natural log of every
+    // frequency bin, where each band spans the given half-width (in natural
+    // log units) to either side of its reference bin.
+    static RectangularSmoothingKernel makeRectangularSmoothingKernel( final double[] lnFrequencyBins,
+                                                                      final int numberOfBins,
+                                                                      final double lnBandHalfWidth ) {
+        final int[] lowerBinIndices = new int[ numberOfBins ];
+        final int[] upperBinIndices = new int[ numberOfBins ];
+
+        // As the bins are in ascending order, both band edges can only move to
+        // the right as the reference bin does, so each edge sweeps the
+        // frequency bins just once.
+        int lowerBinIndex = 0;
+        int upperBinIndex = 0;
+        for ( int binIndex = 0; binIndex < numberOfBins; binIndex++ ) {
+            final double lnReferenceBin = lnFrequencyBins[ binIndex ];
+            if ( lnReferenceBin > Double.NEGATIVE_INFINITY ) {
+                final double lnLowerEdge = lnReferenceBin - lnBandHalfWidth;
+                while ( lnFrequencyBins[ lowerBinIndex ] < lnLowerEdge ) {
+                    lowerBinIndex++;
+                }
+
+                final double lnUpperEdge = lnReferenceBin + lnBandHalfWidth;
+                upperBinIndex = FastMath.max( upperBinIndex, binIndex + 1 );
+                while ( ( upperBinIndex < numberOfBins )
+                        && ( lnFrequencyBins[ upperBinIndex ]
+                             <= lnUpperEdge ) ) {
+                    upperBinIndex++;
+                }
+
+                lowerBinIndices[ binIndex ] = lowerBinIndex;
+                upperBinIndices[ binIndex ] = upperBinIndex;
+            }
+            else {
+                lowerBinIndices[ binIndex ] = binIndex;
+                upperBinIndices[ binIndex ] = binIndex + 1;
+            }
+        }
+
+        return new RectangularSmoothingKernel( numberOfBins,
+                                               lowerBinIndices,
+                                               upperBinIndices );
+    }
+
+    // Get the half-width of a rectangular smoothing band, in natural log
+    // units, which is half of the fractional octave.
+    static double getRectangularBandHalfWidth( final double octaveDivider ) {
+        checkOctaveDivider( octaveDivider );
+
+        return MathConstants.LN2 / ( octaveDivider * 2.0d );
+    }
+
+    // Get the width term of the Gaussian smoothing window, in squared natural
+    // log units, such that the window is down 6 dB at half of the fractional
+    // octave bandwidth away from the reference bin (i.e. the full width at the
+    // -6 dB points is one fractional octave).
+    static double getGaussianWindowWidth( final double octaveDivider ) {
+        checkOctaveDivider( octaveDivider );
+
+        // First, we need to convert from decibels to linear units.
+        final double powerRatioDb = -6.0d;
+        final double voltageRatio = FrequencySignalUtilities.getVoltageRatio(
+                powerRatioDb );
+
+        // The -6 dB points are half of the fractional octave to either side.
+        final double lnHalfBandwidth = MathConstants.LN2
+                                       / ( octaveDivider * 2.0d );
+        return -MathUtilities.sqr( lnHalfBandwidth )
+               / FastMath.log( voltageRatio );
+    }
+
+    // Reject octave dividers that would make an infinite or inverted
+    // bandwidth, as the legacy table-based smoothing does.
+    static void checkOctaveDivider( final double octaveDivider ) {
+        if ( !( octaveDivider > 0.0d ) ) {
+            throw new IllegalArgumentException(
+                    "Octave divider must be positive" );
+        }
+    }
+
+    // Get the distance from the reference bin, in natural log units, at which
+    // the Gaussian smoothing window falls below the weight floor.
+    static double getGaussianWindowExtent( final double windowWidth ) {
+        return getGaussianWindowExtent( windowWidth,
+                                        WINDOW_EXTENT_WEIGHT_FLOOR );
+    }
+
+    // Get the distance from the reference bin, in natural log units, at which
+    // the Gaussian smoothing window falls below the given fraction of the
+    // reference bin's weight.
+    static double getGaussianWindowExtent( final double windowWidth,
+                                           final double weightThreshold ) {
+        return FastMath.sqrt( -windowWidth
+                              * FastMath.log( weightThreshold ) );
+    }
+
+    // Fill one row of Gaussian weights for a reference bin, given the natural
+    // log of every frequency bin, and then normalize the row to unity sum.
+    static void fillGaussianRow( final double[] lnFrequencyBins,
+                                 final int referenceBinIndex,
+                                 final int firstBinIndex,
+                                 final int tapCount,
+                                 final double windowWidth,
+                                 final double[] weights,
+                                 final int tapOffset ) {
+        final double lnReferenceBin = lnFrequencyBins[ referenceBinIndex ];
+
+        double weightSum = 0.0d;
+        for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+            final double lnF = lnFrequencyBins[ firstBinIndex + tapIndex ]
+                               - lnReferenceBin;
+            final double e = -MathUtilities.sqr( lnF );
+            final double y = FastMath.exp( e / windowWidth );
+            weights[ tapOffset + tapIndex ] = y;
+            weightSum += y;
+        }
+
+        if ( weightSum > 0.0d ) {
+            final double weightScale = 1.0d / weightSum;
+            for ( int tapIndex = 0; tapIndex < tapCount; tapIndex++ ) {
+                weights[ tapOffset + tapIndex ] *= weightScale;
+            }
+        }
+    }
 }